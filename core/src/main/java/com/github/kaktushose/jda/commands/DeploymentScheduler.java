@@ -0,0 +1,446 @@
+package com.github.kaktushose.jda.commands;
+
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.interactions.commands.build.CommandData;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Schedules the deployment of guild commands. Deployments are partitioned by shard and the shards are processed in
+ * parallel. Inside a shard, guilds with more members are deployed first.
+ *
+ * <p>Requests are paced on two levels. All shards share a limit of {@link #getRequestsPerSecond() requests per
+ * second}, which keeps the bot below the global rate limit of Discord. Each shard additionally keeps a window of
+ * requests in flight, which grows by one for every fast response and gets halved whenever a response takes longer
+ * than {@link #getSlowResponseThreshold() the threshold}, because this indicates that the request was held back by
+ * a rate limit bucket.
+ *
+ * @author Kaktushose
+ * @version 4.0.0
+ * @see SlashCommandUpdater
+ * @since 4.0.0
+ */
+public class DeploymentScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(DeploymentScheduler.class);
+    private static final long PROGRESS_INTERVAL = TimeUnit.SECONDS.toNanos(5);
+    private final ExecutorService executor;
+    private volatile int requestsPerSecond;
+    private volatile int maxInFlight;
+    private volatile Duration slowResponseThreshold;
+    private volatile Consumer<Progress> progressListener;
+    private volatile Progress lastProgress;
+
+    /**
+     * Constructs a new DeploymentScheduler.
+     */
+    public DeploymentScheduler() {
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "JDA-Commands Deployer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        requestsPerSecond = 40;
+        maxInFlight = 5;
+        slowResponseThreshold = Duration.ofSeconds(1);
+        progressListener = progress -> log.info("{}", progress);
+    }
+
+    /**
+     * Deploys the given deployments.
+     *
+     * @param deployments the deployments to run
+     * @return a {@link CompletableFuture} completing with the final {@link Progress} once all deployments are done
+     */
+    @NotNull
+    public CompletableFuture<Progress> deploy(@NotNull Collection<Deployment> deployments) {
+        Progress progress = new Progress(deployments.size());
+        lastProgress = progress;
+        if (deployments.isEmpty()) {
+            return CompletableFuture.completedFuture(progress);
+        }
+
+        Map<Integer, List<Deployment>> shards = new TreeMap<>();
+        for (Deployment deployment : deployments) {
+            shards.computeIfAbsent(deployment.getShard(), key -> new ArrayList<>()).add(deployment);
+        }
+        log.debug("Deploying guild commands to {} guild(s) on {} shard(s)", deployments.size(), shards.size());
+
+        Pacer pacer = new Pacer(requestsPerSecond);
+        AtomicLong lastReport = new AtomicLong(System.nanoTime());
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (List<Deployment> queue : shards.values()) {
+            queue.sort(Comparator.comparingInt(Deployment::getMemberCount).reversed());
+            futures.add(CompletableFuture.runAsync(() -> runShard(queue, pacer, progress, lastReport), executor));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            progressListener.accept(progress);
+            return progress;
+        });
+    }
+
+    /**
+     * Gets the {@link Progress} of the deployment that was started last. The {@link Progress} gets updated while the
+     * deployment is running.
+     *
+     * @return an {@link Optional} holding the {@link Progress} or an empty {@link Optional} if nothing was deployed yet
+     */
+    @NotNull
+    public Optional<Progress> getLastProgress() {
+        return Optional.ofNullable(lastProgress);
+    }
+
+    // used to run the preparation of a deployment in the background
+    Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Shuts down the threads of this scheduler. Running deployments will be completed.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Gets the maximum amount of requests per second all shards may send together.
+     *
+     * @return the maximum amount of requests per second
+     */
+    public int getRequestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    /**
+     * Sets the maximum amount of requests per second all shards may send together. Default value is {@code 40}.
+     *
+     * @param requestsPerSecond the maximum amount of requests per second
+     */
+    public void setRequestsPerSecond(int requestsPerSecond) {
+        if (requestsPerSecond < 1) {
+            throw new IllegalArgumentException("Requests per second must be positive!");
+        }
+        this.requestsPerSecond = requestsPerSecond;
+    }
+
+    /**
+     * Gets the maximum amount of requests a single shard keeps in flight.
+     *
+     * @return the maximum amount of requests in flight per shard
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Sets the maximum amount of requests a single shard keeps in flight. Default value is {@code 5}.
+     *
+     * @param maxInFlight the maximum amount of requests in flight per shard
+     */
+    public void setMaxInFlight(int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("Maximum amount of requests in flight must be positive!");
+        }
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Gets the response time above which a request is considered to be rate limited.
+     *
+     * @return the slow response threshold
+     */
+    @NotNull
+    public Duration getSlowResponseThreshold() {
+        return slowResponseThreshold;
+    }
+
+    /**
+     * Sets the response time above which a request is considered to be rate limited. Default value is one second.
+     *
+     * @param slowResponseThreshold the slow response threshold
+     */
+    public void setSlowResponseThreshold(@NotNull Duration slowResponseThreshold) {
+        this.slowResponseThreshold = slowResponseThreshold;
+    }
+
+    /**
+     * Sets the listener that gets notified about the {@link Progress} of a deployment at most every five seconds and
+     * once the deployment is done. By default, the progress gets logged.
+     *
+     * @param progressListener the listener to notify
+     */
+    public void setProgressListener(@NotNull Consumer<Progress> progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    private void runShard(List<Deployment> queue, Pacer pacer, Progress progress, AtomicLong lastReport) {
+        Window window = new Window(maxInFlight);
+        long threshold = slowResponseThreshold.toNanos();
+        List<CompletableFuture<?>> pending = new ArrayList<>();
+        try {
+            for (Deployment deployment : queue) {
+                window.acquire();
+                pacer.acquire();
+                long start = System.nanoTime();
+                CompletableFuture<?> future;
+                try {
+                    future = deployment.getRequest().get();
+                } catch (RuntimeException e) {
+                    future = CompletableFuture.failedFuture(e);
+                }
+                pending.add(future.whenComplete((result, throwable) -> {
+                    window.release(System.nanoTime() - start > threshold);
+                    if (throwable == null) {
+                        progress.completed.incrementAndGet();
+                    } else {
+                        progress.failed.incrementAndGet();
+                        log.error("Unable to deploy commands to guild {}!", deployment.getGuildId(), throwable);
+                    }
+                    report(progress, lastReport);
+                }));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Deployment got interrupted!");
+        }
+        CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0])).exceptionally(throwable -> null).join();
+    }
+
+    private void report(Progress progress, AtomicLong lastReport) {
+        long now = System.nanoTime();
+        long last = lastReport.get();
+        if (now - last >= PROGRESS_INTERVAL && lastReport.compareAndSet(last, now)) {
+            progressListener.accept(progress);
+        }
+    }
+
+    /**
+     * A single guild deployment.
+     */
+    public static final class Deployment {
+
+        private final long guildId;
+        private final int shard;
+        private final int memberCount;
+        private final Supplier<CompletableFuture<?>> request;
+
+        /**
+         * Constructs a new Deployment.
+         *
+         * @param guildId     the id of the guild
+         * @param shard       the id of the shard the guild belongs to
+         * @param memberCount the amount of members of the guild, used as priority
+         * @param request     the request sending the commands
+         */
+        public Deployment(long guildId, int shard, int memberCount, @NotNull Supplier<CompletableFuture<?>> request) {
+            this.guildId = guildId;
+            this.shard = shard;
+            this.memberCount = memberCount;
+            this.request = request;
+        }
+
+        /**
+         * Creates a new Deployment overwriting the commands of the given guild.
+         *
+         * @param guild    the {@link Guild} to deploy to
+         * @param commands the commands to deploy
+         * @return a new Deployment
+         */
+        @NotNull
+        public static Deployment of(@NotNull Guild guild, @NotNull Collection<? extends CommandData> commands) {
+            return new Deployment(
+                    guild.getIdLong(),
+                    guild.getJDA().getShardInfo().getShardId(),
+                    guild.getMemberCount(),
+                    () -> guild.updateCommands().addCommands(commands).submit()
+            );
+        }
+
+        /**
+         * Gets the id of the guild.
+         *
+         * @return the id of the guild
+         */
+        public long getGuildId() {
+            return guildId;
+        }
+
+        /**
+         * Gets the id of the shard the guild belongs to.
+         *
+         * @return the shard id
+         */
+        public int getShard() {
+            return shard;
+        }
+
+        /**
+         * Gets the amount of members of the guild.
+         *
+         * @return the amount of members
+         */
+        public int getMemberCount() {
+            return memberCount;
+        }
+
+        /**
+         * Gets the request sending the commands.
+         *
+         * @return the request
+         */
+        @NotNull
+        public Supplier<CompletableFuture<?>> getRequest() {
+            return request;
+        }
+    }
+
+    /**
+     * The progress of a deployment.
+     */
+    public static final class Progress {
+
+        private final int total;
+        private final long start;
+        private final AtomicInteger completed;
+        private final AtomicInteger failed;
+
+        private Progress(int total) {
+            this.total = total;
+            start = System.nanoTime();
+            completed = new AtomicInteger();
+            failed = new AtomicInteger();
+        }
+
+        /**
+         * Gets the total amount of guilds to deploy to.
+         *
+         * @return the total amount of guilds
+         */
+        public int getTotal() {
+            return total;
+        }
+
+        /**
+         * Gets the amount of guilds the commands were deployed to.
+         *
+         * @return the amount of successful deployments
+         */
+        public int getCompleted() {
+            return completed.get();
+        }
+
+        /**
+         * Gets the amount of guilds the deployment failed for.
+         *
+         * @return the amount of failed deployments
+         */
+        public int getFailed() {
+            return failed.get();
+        }
+
+        /**
+         * Whether all deployments are done.
+         *
+         * @return {@code true} if all deployments are done
+         */
+        public boolean isDone() {
+            return getCompleted() + getFailed() >= total;
+        }
+
+        /**
+         * Gets the time elapsed since the deployment started.
+         *
+         * @return the elapsed time
+         */
+        @NotNull
+        public Duration getElapsed() {
+            return Duration.ofNanos(System.nanoTime() - start);
+        }
+
+        /**
+         * Estimates the remaining time based on the average time per guild so far.
+         *
+         * @return an {@link Optional} holding the estimated remaining time or an empty {@link Optional} if no
+         * deployment is done yet
+         */
+        @NotNull
+        public Optional<Duration> getEta() {
+            int done = getCompleted() + getFailed();
+            if (done == 0) {
+                return Optional.empty();
+            }
+            return Optional.of(getElapsed().multipliedBy(total - done).dividedBy(done));
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Deployed guild commands to %d/%d guild(s) (%d failed) in %ds, ETA %s",
+                    getCompleted(), total, getFailed(), getElapsed().getSeconds(),
+                    getEta().map(eta -> eta.getSeconds() + "s").orElse("unknown"));
+        }
+    }
+
+    // shared limit of requests per second, spacing the requests evenly
+    private static final class Pacer {
+
+        private final long interval;
+        private long next;
+
+        private Pacer(int requestsPerSecond) {
+            interval = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+            next = System.nanoTime();
+        }
+
+        private void acquire() throws InterruptedException {
+            long wait;
+            synchronized (this) {
+                long now = System.nanoTime();
+                long at = Math.max(now, next);
+                next = at + interval;
+                wait = at - now;
+            }
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+        }
+    }
+
+    // additive increase, multiplicative decrease window of requests in flight
+    private static final class Window {
+
+        private final int max;
+        private int limit;
+        private int inFlight;
+
+        private Window(int max) {
+            this.max = max;
+            limit = 1;
+        }
+
+        private synchronized void acquire() throws InterruptedException {
+            while (inFlight >= limit) {
+                wait();
+            }
+            inFlight++;
+        }
+
+        private synchronized void release(boolean slow) {
+            inFlight--;
+            limit = slow ? Math.max(1, limit / 2) : Math.min(max, limit + 1);
+            notifyAll();
+        }
+    }
+}
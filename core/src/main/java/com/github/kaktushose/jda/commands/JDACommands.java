@@ -3,9 +3,11 @@ package com.github.kaktushose.jda.commands;
 import com.github.kaktushose.jda.commands.dependency.DependencyInjector;
 import com.github.kaktushose.jda.commands.dispatching.DispatcherSupervisor;
 import com.github.kaktushose.jda.commands.dispatching.ParserSupervisor;
+import com.github.kaktushose.jda.commands.dispatching.RuntimeSupervisor;
 import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapterRegistry;
 import com.github.kaktushose.jda.commands.dispatching.filter.FilterRegistry;
 import com.github.kaktushose.jda.commands.dispatching.validation.ValidatorRegistry;
+import com.github.kaktushose.jda.commands.reflect.ClassIndex;
 import com.github.kaktushose.jda.commands.reflect.ImplementationRegistry;
 import com.github.kaktushose.jda.commands.reflect.InteractionRegistry;
 import net.dv8tion.jda.api.JDA;
@@ -16,6 +18,10 @@ import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Represents an active instance of this framework and provides access to all underlying classes.
  *
@@ -37,9 +43,12 @@ public class JDACommands {
     private final DependencyInjector dependencyInjector;
     private final InteractionRegistry interactionRegistry;
     private final SlashCommandUpdater updater;
+    private final StartupReport startupReport;
+    private final CompletableFuture<DeploymentScheduler.Progress> registration;
 
     // this is needed for unit testing
     protected JDACommands() {
+        startupReport = null;
         jdaContext = null;
         implementationRegistry = null;
         parserSupervisor = null;
@@ -50,6 +59,7 @@ public class JDACommands {
         dispatcherSupervisor = null;
         interactionRegistry = null;
         updater = null;
+        registration = null;
     }
 
     private JDACommands(Object jda, Class<?> clazz, LocalizationFunction function, String... packages) {
@@ -59,9 +69,11 @@ public class JDACommands {
             throw new IllegalStateException("An instance of the command framework is already running!");
         }
 
+        startupReport = new StartupReport();
         jdaContext = new JDAContext(jda);
+        ClassIndex classIndex = startupReport.measure("class index", () -> ClassIndex.create(clazz, packages));
         dependencyInjector = new DependencyInjector();
-        dependencyInjector.index(clazz, packages);
+        startupReport.measure("dependencies", () -> dependencyInjector.index(classIndex));
 
         filterRegistry = new FilterRegistry();
         adapterRegistry = new TypeAdapterRegistry();
@@ -77,16 +89,28 @@ public class JDACommands {
         dispatcherSupervisor = new DispatcherSupervisor(this);
         parserSupervisor = new ParserSupervisor(dispatcherSupervisor);
 
-        implementationRegistry.index(clazz, packages);
+        startupReport.measure("implementations", () -> implementationRegistry.index(classIndex));
+
+        startupReport.measure("interactions", () -> interactionRegistry.index(classIndex));
 
-        interactionRegistry.index(clazz, packages);
+        updater = new SlashCommandUpdater(this);
+        // routing only depends on the indexed interactions, thus events can be handled while registration is running
+        startupReport.measure("listener registration",
+                () -> jdaContext.performTaskParallel(it -> it.addEventListener(parserSupervisor, updater)));
 
-        updater = new SlashCommandUpdater(this, interactionRegistry.getCommands());
-        updater.updateAllCommands();
-        jdaContext.performTask(it -> it.addEventListener(parserSupervisor));
+        long start = System.nanoTime();
+        registration = updater.updateAllCommands().whenComplete((progress, throwable) -> {
+            startupReport.record("command registration", Duration.ofNanos(System.nanoTime() - start));
+            if (throwable != null) {
+                log.error("An error has occurred! Unable to register slash commands", throwable);
+                return;
+            }
+            log.info("Finished command registration! {}", progress);
+        });
 
         isActive = true;
-        log.info("Finished loading!");
+        log.info("Finished loading! Registering slash commands in the background");
+        log.info(startupReport.toString());
     }
 
     /**
@@ -153,7 +177,10 @@ public class JDACommands {
      * This will <b>not</b> unregister any slash commands.
      */
     public void shutdown() {
-        jdaContext.performTask(jda -> jda.removeEventListener(parserSupervisor));
+        jdaContext.performTaskParallel(jda -> jda.removeEventListener(parserSupervisor, updater));
+        dispatcherSupervisor.getRuntimeSupervisor().shutdown();
+        updater.getDeploymentState().close();
+        updater.getDeploymentScheduler().shutdown();
         isActive = false;
     }
 
@@ -169,6 +196,31 @@ public class JDACommands {
         return this;
     }
 
+    /**
+     * Updates the slash commands that are registered with
+     * {@link com.github.kaktushose.jda.commands.annotations.interactions.SlashCommand.CommandScope#GUILD
+     * CommandScope#Guild} for the given guilds only.
+     *
+     * @param guildIds the ids of the guilds to update
+     * @return this instance
+     */
+    public JDACommands updateGuildCommands(@NotNull Collection<Long> guildIds) {
+        updater.updateGuildCommands(guildIds);
+        return this;
+    }
+
+    /**
+     * Updates the slash commands of all guilds affected by a change of the scope of the given guild scoped command.
+     *
+     * @param name the name of the top level command whose scope changed
+     * @return this instance
+     * @see SlashCommandUpdater#updateCommandScope(String)
+     */
+    public JDACommands updateCommandScope(@NotNull String name) {
+        updater.updateCommandScope(name);
+        return this;
+    }
+
     /**
      * Gets the {@link ImplementationRegistry}.
      *
@@ -187,6 +239,15 @@ public class JDACommands {
         return parserSupervisor;
     }
 
+    /**
+     * Gets the {@link RuntimeSupervisor}.
+     *
+     * @return the {@link RuntimeSupervisor}
+     */
+    public RuntimeSupervisor getRuntimeSupervisor() {
+        return dispatcherSupervisor.getRuntimeSupervisor();
+    }
+
     /**
      * Gets the {@link TypeAdapterRegistry}.
      *
@@ -240,4 +301,35 @@ public class JDACommands {
     public DependencyInjector getDependencyInjector() {
         return dependencyInjector;
     }
+
+    /**
+     * Gets the registration of the slash commands, which runs in the background after the startup. Interactions are
+     * already handled while the registration is running.
+     *
+     * @return a {@link CompletableFuture} completing with the {@link DeploymentScheduler.Progress} of the guild
+     * commands once all slash commands are registered
+     * @see DeploymentScheduler#getLastProgress()
+     */
+    public CompletableFuture<DeploymentScheduler.Progress> getRegistration() {
+        return registration;
+    }
+
+    /**
+     * Gets the {@link SlashCommandUpdater}.
+     *
+     * @return the {@link SlashCommandUpdater}
+     */
+    public SlashCommandUpdater getSlashCommandUpdater() {
+        return updater;
+    }
+
+    /**
+     * Gets the {@link StartupReport} holding the time each startup phase took. The duration of the command
+     * registration gets recorded once the {@link #getRegistration() registration} is done.
+     *
+     * @return the {@link StartupReport}
+     */
+    public StartupReport getStartupReport() {
+        return startupReport;
+    }
 }
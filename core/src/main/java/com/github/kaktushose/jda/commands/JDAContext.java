@@ -0,0 +1,217 @@
+package com.github.kaktushose.jda.commands;
+
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.sharding.ShardManager;
+import net.dv8tion.jda.api.utils.cache.ShardCacheView;
+import net.dv8tion.jda.api.utils.cache.SnowflakeCacheView;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * Wrapper class for {@link JDA} and {@link ShardManager}. Use {@link #performTask(Consumer)} when you need to do
+ * work with an {@link JDA} object. Use {@link #performTaskParallel(Consumer)} or
+ * {@link #performTaskAsync(Consumer, Executor)} to work on many shards concurrently.
+ *
+ * @author Kaktushose
+ * @version 4.0.0
+ * @since 2.3.0
+ */
+public class JDAContext {
+
+    private final Object jda;
+
+    /**
+     * Constructs a new JDAContext.
+     *
+     * @param jda the {@link JDA} or {@link ShardManager} object
+     */
+    public JDAContext(Object jda) {
+        this.jda = jda;
+    }
+
+    /**
+     * Performs an operation on either the {@link JDA} object or on all shards.
+     *
+     * @param consumer the operation to perform
+     */
+    public void performTask(Consumer<JDA> consumer) {
+        if (jda instanceof ShardManager) {
+            ((ShardManager) jda).getShardCache().forEach(consumer);
+        } else if (jda instanceof JDA) {
+            consumer.accept((JDA) jda);
+        } else {
+            throw new IllegalArgumentException(String.format("Cannot cast %s", jda.getClass().getSimpleName()));
+        }
+    }
+
+    /**
+     * Performs an operation on either the {@link JDA} object or on all shards in parallel. Blocks until the operation
+     * is done on all shards. The operation must be thread safe.
+     *
+     * @param consumer the operation to perform
+     */
+    public void performTaskParallel(Consumer<JDA> consumer) {
+        if (jda instanceof ShardManager) {
+            ((ShardManager) jda).getShardCache().parallelStream().forEach(consumer);
+        } else if (jda instanceof JDA) {
+            consumer.accept((JDA) jda);
+        } else {
+            throw new IllegalArgumentException(String.format("Cannot cast %s", jda.getClass().getSimpleName()));
+        }
+    }
+
+    /**
+     * Performs an operation on either the {@link JDA} object or on all shards asynchronously, using the
+     * {@link ForkJoinPool#commonPool() common pool}. The operation must be thread safe.
+     *
+     * @param consumer the operation to perform
+     * @return a {@link CompletableFuture} completing once the operation is done on all shards
+     * @see #performTaskAsync(Consumer, Executor)
+     */
+    public CompletableFuture<Void> performTaskAsync(Consumer<JDA> consumer) {
+        return performTaskAsync(consumer, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Performs an operation on either the {@link JDA} object or on all shards asynchronously. Each shard is submitted
+     * to the {@link Executor} separately, thus the shards are processed concurrently. The operation must be thread
+     * safe.
+     *
+     * @param consumer the operation to perform
+     * @param executor the {@link Executor} to run the operation on
+     * @return a {@link CompletableFuture} completing once the operation is done on all shards. Completes
+     * exceptionally if the operation failed for at least one shard
+     */
+    public CompletableFuture<Void> performTaskAsync(Consumer<JDA> consumer, Executor executor) {
+        if (jda instanceof ShardManager) {
+            ShardCacheView shards = ((ShardManager) jda).getShardCache();
+            List<CompletableFuture<Void>> futures = new ArrayList<>((int) shards.size());
+            shards.forEach(shard -> futures.add(CompletableFuture.runAsync(() -> consumer.accept(shard), executor)));
+            return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+        } else if (jda instanceof JDA) {
+            return CompletableFuture.runAsync(() -> consumer.accept((JDA) jda), executor);
+        } else {
+            throw new IllegalArgumentException(String.format("Cannot cast %s", jda.getClass().getSimpleName()));
+        }
+    }
+
+    /**
+     * Performs an operation on all cached {@link Guild Guilds} of either the {@link JDA} object or of all shards.
+     * Unlike {@link #getGuilds()}, this iterates the caches directly without copying them into a list.
+     *
+     * @param consumer the operation to perform
+     */
+    public void forEachGuild(Consumer<Guild> consumer) {
+        getGuildCache().forEach(consumer);
+    }
+
+    /**
+     * Gets the amount of cached {@link Guild Guilds} of either the {@link JDA} object or of all shards without copying
+     * the caches.
+     *
+     * @return the amount of cached {@link Guild Guilds}
+     */
+    public long getGuildCount() {
+        return getGuildCache().size();
+    }
+
+    /**
+     * Gets the shard responsible for application wide tasks, e.g. updating global commands. This is the {@link JDA}
+     * object itself or the shard with id {@code 0} of the {@link ShardManager}. If multiple processes share the shard
+     * range of an application, only the process managing shard {@code 0} gets a result, thus application wide tasks
+     * are performed exactly once.
+     *
+     * @return an {@link Optional} holding the primary shard or an empty {@link Optional} if this process doesn't
+     * manage it
+     */
+    public Optional<JDA> getPrimaryShard() {
+        if (jda instanceof ShardManager) {
+            return Optional.ofNullable(((ShardManager) jda).getShardCache().getElementById(0));
+        } else if (jda instanceof JDA) {
+            return Optional.of((JDA) jda);
+        } else {
+            throw new IllegalArgumentException(String.format("Cannot cast %s", jda.getClass().getSimpleName()));
+        }
+    }
+
+    /**
+     * Gets the JDA instance as an Object. This can either be {@link JDA} or a {@link ShardManager}.
+     * Use {@link #isShardManager()} to distinguish.
+     *
+     * @return the JDA instance.
+     */
+    public Object getJDAObject() {
+        return jda;
+    }
+
+    /**
+     * Whether the JDA instance is a {@link ShardManager}.
+     *
+     * @return {@code true} if the JDA instance is a {@link ShardManager}
+     * @deprecated
+     */
+    @Deprecated
+    public boolean isShardManager() {
+        return jda instanceof ShardManager;
+    }
+
+    /**
+     * An unmodifiable List of all {@link Guild Guilds} that the logged account is connected to.
+     * If this account is not connected to any {@link Guild Guilds}, this will return an empty list.
+     * This copies the backing store into a list. This means every call creates a new list with O(n) complexity.
+     *
+     * @return Possibly-empty list of all the {@link Guild Guilds} that this account is connected to.
+     * @deprecated use {@link #forEachGuild(Consumer)}, {@link #getGuildCount()} or {@link #getGuildCache()} instead,
+     * which don't copy the caches
+     */
+    @Deprecated
+    public List<Guild> getGuilds() {
+        if (jda instanceof ShardManager) {
+            return ((ShardManager) jda).getGuilds();
+        } else if (jda instanceof JDA) {
+            return ((JDA) jda).getGuilds();
+        } else {
+            throw new IllegalArgumentException(String.format("Cannot cast %s", jda.getClass().getSimpleName()));
+        }
+    }
+
+    /**
+     * {@link SnowflakeCacheView} of all cached {@link Guild Guilds}.
+     *
+     * @return {@link SnowflakeCacheView}
+     */
+    public SnowflakeCacheView<Guild> getGuildCache() {
+        if (jda instanceof ShardManager) {
+            return ((ShardManager) jda).getGuildCache();
+        } else if (jda instanceof JDA) {
+            return ((JDA) jda).getGuildCache();
+        } else {
+            throw new IllegalArgumentException(String.format("Cannot cast %s", jda.getClass().getSimpleName()));
+        }
+    }
+
+    /**
+     * Gets the JDA instance as {@link JDA}.
+     *
+     * @return the JDA instance as {@link JDA}
+     */
+    public JDA getAsJDA() {
+        return (JDA) jda;
+    }
+
+    /**
+     * Gets the JDA instance as {@link ShardManager}.
+     *
+     * @return the JDA instance as {@link ShardManager}
+     */
+    public ShardManager getAsShardManager() {
+        return (ShardManager) jda;
+    }
+}
@@ -0,0 +1,358 @@
+package com.github.kaktushose.jda.commands;
+
+import com.github.kaktushose.jda.commands.annotations.interactions.SlashCommand;
+import com.github.kaktushose.jda.commands.data.CommandFingerprint;
+import com.github.kaktushose.jda.commands.data.CommandTree;
+import com.github.kaktushose.jda.commands.data.DeploymentState;
+import com.github.kaktushose.jda.commands.reflect.InteractionRegistry;
+import com.github.kaktushose.jda.commands.reflect.interactions.CommandDefinition;
+import com.github.kaktushose.jda.commands.scope.GuildScopeProvider;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.events.guild.GuildJoinEvent;
+import net.dv8tion.jda.api.events.guild.GuildLeaveEvent;
+import net.dv8tion.jda.api.hooks.ListenerAdapter;
+import net.dv8tion.jda.api.interactions.commands.Command;
+import net.dv8tion.jda.api.interactions.commands.build.CommandData;
+import net.dv8tion.jda.api.interactions.commands.build.SlashCommandData;
+import net.dv8tion.jda.api.sharding.ShardManager;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Class that sends the {@link SlashCommandData} to Discord. Uses a {@link CommandTree} to properly transpile all
+ * {@link CommandDefinition CommandDefinitions} to {@link SlashCommandData}.
+ *
+ * <p>Only targets whose command set changed since the last deployment get updated. The hashes of the deployed command
+ * sets are kept in a {@link DeploymentState}, which is only kept in memory unless the system property
+ * {@value #STATE_FILE_PROPERTY} names a file to persist it to. The state is bound to the id of the application, thus
+ * applications sharing a file don't skip each other's deployments.
+ *
+ * <p>This is also the event listener that deploys the guild commands to newly joined guilds. The guild scoped
+ * commands are transpiled once and guilds with the same commands share a cached payload, thus targeted updates via
+ * {@link #updateGuildCommands(Collection)} and {@link #updateCommandScope(String)} only send requests to the affected
+ * guilds.
+ *
+ * @author Kaktushose
+ * @version 4.0.0
+ * @see CommandTree
+ * @since 2.3.0
+ */
+public class SlashCommandUpdater extends ListenerAdapter {
+
+    /**
+     * The system property naming the file to persist the {@link DeploymentState} to.
+     */
+    public static final String STATE_FILE_PROPERTY = "jda-commands.state-file";
+
+    private static final Logger log = LoggerFactory.getLogger(SlashCommandUpdater.class);
+    private final JDAContext jdaContext;
+    private final InteractionRegistry interactionRegistry;
+    private final GuildScopeProvider guildScopeProvider;
+    private final DeploymentState deploymentState;
+    private final DeploymentScheduler deploymentScheduler;
+    private final List<SlashCommandData> guildCommands;
+    private final List<CommandData> guildCommandCopies;
+    private final Map<Long, Payload> scopes;
+    private final Map<BitSet, Payload> payloads;
+    private final Payload emptyPayload;
+    private volatile CompletableFuture<List<Command>> globalCommands;
+
+    /**
+     * Constructs a new SlashCommandUpdater.
+     *
+     * @param jdaCommands the corresponding {@link JDACommands} instance
+     */
+    public SlashCommandUpdater(JDACommands jdaCommands) {
+        this.jdaContext = jdaCommands.getJdaContext();
+        interactionRegistry = jdaCommands.getInteractionRegistry();
+        guildScopeProvider = jdaCommands.getImplementationRegistry().getGuildScopeProvider();
+        deploymentState = createDeploymentState();
+        globalCommands = CompletableFuture.completedFuture(Collections.emptyList());
+        deploymentScheduler = new DeploymentScheduler();
+        scopes = new ConcurrentHashMap<>();
+        payloads = new ConcurrentHashMap<>();
+
+        CommandTree tree = interactionRegistry.getCommandTree(SlashCommand.CommandScope.GUILD);
+        log.debug("Using guild command tree:\n" + tree);
+        log.debug("Using guild commands: " + tree.getNames());
+        guildCommands = tree.getCommands();
+        emptyPayload = new Payload(guildCommands, new BitSet());
+        // create copies once so that a user doesn't modify the command data used for registration
+        List<CommandData> copies = new ArrayList<>(guildCommands.size());
+        for (SlashCommandData command : guildCommands) {
+            copies.add(SlashCommandData.fromData(command.toData()));
+        }
+        guildCommandCopies = Collections.unmodifiableList(copies);
+    }
+
+    private DeploymentState createDeploymentState() {
+        String stateFile = System.getProperty(STATE_FILE_PROPERTY, "");
+        if (stateFile.isEmpty()) {
+            return new DeploymentState();
+        }
+        // all shards belong to the same application, thus any of them will do
+        Object jda = jdaContext.getJDAObject();
+        Optional<JDA> shard = jda instanceof ShardManager
+                ? ((ShardManager) jda).getShardCache().stream().findFirst()
+                : Optional.of((JDA) jda);
+        try {
+            long applicationId = shard.orElseThrow(() -> new IllegalStateException("No shard is running!"))
+                    .getSelfUser().getApplicationIdLong();
+            return new DeploymentState(Paths.get(stateFile), applicationId);
+        } catch (IllegalStateException e) {
+            log.warn("Unable to get the application id! Keeping the deployment state in memory", e);
+            return new DeploymentState();
+        }
+    }
+
+    /**
+     * Gets the {@link DeploymentScheduler} used to deploy guild commands.
+     *
+     * @return the {@link DeploymentScheduler}
+     */
+    public DeploymentScheduler getDeploymentScheduler() {
+        return deploymentScheduler;
+    }
+
+    /**
+     * Gets the {@link DeploymentState} holding the hashes of the deployed command sets. Call
+     * {@link DeploymentState#clear()} to force the next update to redeploy every target.
+     *
+     * @return the {@link DeploymentState}
+     */
+    public DeploymentState getDeploymentState() {
+        return deploymentState;
+    }
+
+    /**
+     * Sends the {@link SlashCommandData} to Discord. This is equivalent to calling {@link #updateGlobalCommands()} and
+     * {@link #updateGuildCommands()} each, but both updates get prepared and sent in the background, thus this method
+     * returns immediately.
+     *
+     * @return a {@link CompletableFuture} completing with the {@link DeploymentScheduler.Progress} of the guild
+     * commands once both the guild and the global commands are updated
+     */
+    public CompletableFuture<DeploymentScheduler.Progress> updateAllCommands() {
+        Executor executor = deploymentScheduler.getExecutor();
+        CompletableFuture<DeploymentScheduler.Progress> guild = CompletableFuture
+                .supplyAsync(this::updateGuildCommands, executor)
+                .thenCompose(future -> future);
+        CompletableFuture<List<Command>> global = CompletableFuture
+                .supplyAsync(this::updateGlobalCommands, executor)
+                .thenCompose(future -> future);
+        return guild.thenCombine(global, (progress, commands) -> progress);
+    }
+
+    /**
+     * Sends the guild scope {@link SlashCommandData} to Discord. This resolves the scopes of all guilds through the
+     * {@link GuildScopeProvider}.
+     *
+     * @return a {@link CompletableFuture} completing with the {@link DeploymentScheduler.Progress} once all guilds
+     * are updated
+     */
+    public CompletableFuture<DeploymentScheduler.Progress> updateGuildCommands() {
+        log.debug("Updating guild slash commands of {} guild(s)...", jdaContext.getGuildCount());
+        Map<Long, BitSet> resolved = guildScopeProvider.getCommandsForGuilds(guildCommandCopies);
+        log.debug("Using guild scopes for {} guild(s)", resolved.size());
+        synchronized (scopes) {
+            scopes.clear();
+            payloads.clear();
+            resolved.forEach(this::setScope);
+        }
+        return deploy(jdaContext::forEachGuild, false);
+    }
+
+    /**
+     * Sends the guild scope {@link SlashCommandData} to the given guilds only. Use this if the scope of some guilds
+     * changed, e.g. because a premium command got enabled for a single guild.
+     *
+     * @param guildIds the ids of the guilds to update
+     * @return a {@link CompletableFuture} completing with the {@link DeploymentScheduler.Progress} once the guilds
+     * are updated
+     */
+    public CompletableFuture<DeploymentScheduler.Progress> updateGuildCommands(Collection<Long> guildIds) {
+        return updateGuilds(guildIds);
+    }
+
+    /**
+     * Sends the guild scope {@link SlashCommandData} to all guilds affected by a change of the scope of the given
+     * command. These are the guilds that had the command registered before and the guilds the
+     * {@link GuildScopeProvider#getGuildsForCommand(CommandData)} now returns.
+     *
+     * @param name the name of the top level command whose scope changed
+     * @return a {@link CompletableFuture} completing with the {@link DeploymentScheduler.Progress} once the affected
+     * guilds are updated
+     * @throws IllegalArgumentException if no guild scoped command with the given name exists
+     */
+    public CompletableFuture<DeploymentScheduler.Progress> updateCommandScope(String name) {
+        int index = -1;
+        for (int i = 0; i < guildCommands.size(); i++) {
+            if (guildCommands.get(i).getName().equals(name)) {
+                index = i;
+                break;
+            }
+        }
+        if (index < 0) {
+            throw new IllegalArgumentException(String.format("Unknown guild scoped command %s!", name));
+        }
+        Set<Long> affected = new HashSet<>(guildScopeProvider.getGuildsForCommand(guildCommandCopies.get(index)));
+        for (Map.Entry<Long, Payload> entry : scopes.entrySet()) {
+            if (entry.getValue().scope.get(index)) {
+                affected.add(entry.getKey());
+            }
+        }
+        log.debug("Scope of command {} changed, affecting {} guild(s)", name, affected.size());
+        return updateGuildCommands(affected);
+    }
+
+    @Override
+    public void onGuildJoin(@NotNull GuildJoinEvent event) {
+        Guild guild = event.getGuild();
+        BitSet scope = guildScopeProvider.getCommandsForGuild(guildCommandCopies, guild.getIdLong());
+        synchronized (scopes) {
+            setScope(guild.getIdLong(), scope);
+        }
+        // a new guild has no guild commands yet, thus there is nothing to remove
+        if (scope.isEmpty() && deploymentState.getHash(guild.getId()).isEmpty()) {
+            log.debug("Guild {} has no guild scoped commands, skipping update", guild.getIdLong());
+            return;
+        }
+        // the stored hash might be outdated if the guild was joined before, thus always deploy
+        deploy(consumer -> consumer.accept(guild), true);
+    }
+
+    @Override
+    public void onGuildLeave(@NotNull GuildLeaveEvent event) {
+        synchronized (scopes) {
+            setScope(event.getGuild().getIdLong(), null);
+        }
+    }
+
+    private CompletableFuture<DeploymentScheduler.Progress> updateGuilds(Collection<Long> guildIds) {
+        log.debug("Updating guild slash commands of {} guild(s)...", guildIds.size());
+        Map<Long, BitSet> resolved = guildScopeProvider.getCommandsForGuilds(guildCommandCopies, guildIds);
+        List<Guild> guilds = new ArrayList<>(guildIds.size());
+        synchronized (scopes) {
+            for (Long guildId : guildIds) {
+                setScope(guildId, resolved.get(guildId));
+                Guild guild = jdaContext.getGuildCache().getElementById(guildId);
+                if (guild != null) {
+                    guilds.add(guild);
+                }
+            }
+        }
+        return deploy(guilds::forEach, false);
+    }
+
+    // takes the guilds as a forEach method, thus the guild caches can be iterated without copying them
+    private CompletableFuture<DeploymentScheduler.Progress> deploy(Consumer<Consumer<Guild>> guilds, boolean force) {
+        List<DeploymentScheduler.Deployment> deployments = new ArrayList<>();
+        AtomicInteger skipped = new AtomicInteger();
+        guilds.accept(guild -> {
+            Payload payload = scopes.getOrDefault(guild.getIdLong(), emptyPayload);
+            String target = guild.getId();
+            if (!force && deploymentState.isDeployed(target, payload.hash)) {
+                skipped.incrementAndGet();
+                return;
+            }
+            deployments.add(new DeploymentScheduler.Deployment(
+                    guild.getIdLong(),
+                    guild.getJDA().getShardInfo().getShardId(),
+                    guild.getMemberCount(),
+                    () -> guild.updateCommands().addCommands(payload.commands).submit()
+                            .thenRun(() -> deploymentState.update(target, payload.hash))
+            ));
+        });
+        log.debug("Using {} distinct guild command set(s), skipped {} unchanged guild(s)", payloads.size() + 1, skipped.get());
+        return deploymentScheduler.deploy(deployments);
+    }
+
+    // guilds with the same commands share the same payload and hash, a payload is dropped once no guild uses it
+    // anymore. Must be called while holding the lock of the scopes
+    private void setScope(long guildId, BitSet scope) {
+        Payload payload = null;
+        if (scope != null && !scope.isEmpty()) {
+            payload = payloads.get(scope);
+            if (payload == null) {
+                payload = new Payload(guildCommands, (BitSet) scope.clone());
+                payloads.put(payload.scope, payload);
+            }
+            payload.guilds++;
+        }
+        Payload previous = payload == null ? scopes.remove(guildId) : scopes.put(guildId, payload);
+        if (previous != null && --previous.guilds == 0) {
+            payloads.remove(previous.scope);
+        }
+    }
+
+    /**
+     * Sends the global scope {@link SlashCommandData} to Discord. Global commands belong to the application, thus
+     * they get sent exactly once through the {@link JDAContext#getPrimaryShard() primary shard}, regardless of the
+     * amount of shards. If this process doesn't manage the primary shard, the global commands are left to the process
+     * that does.
+     *
+     * @return a {@link CompletableFuture} holding the global commands as returned by Discord
+     * @see #getGlobalCommands()
+     */
+    public CompletableFuture<List<Command>> updateGlobalCommands() {
+        log.debug("Updating global slash commands...");
+        CommandTree tree = interactionRegistry.getCommandTree(SlashCommand.CommandScope.GLOBAL);
+        log.debug("Using global command tree:\n" + tree);
+        log.debug("Using commands: " + tree.getNames());
+        List<SlashCommandData> commands = tree.getCommands();
+        String hash = CommandFingerprint.of(commands);
+        if (deploymentState.isDeployed(DeploymentState.GLOBAL, hash)) {
+            log.debug("Global commands are unchanged, skipping update");
+            return globalCommands;
+        }
+        Optional<JDA> shard = jdaContext.getPrimaryShard();
+        if (shard.isEmpty()) {
+            log.debug("Primary shard is managed by another process, skipping update of global commands");
+            return globalCommands;
+        }
+        CompletableFuture<List<Command>> future = shard.get().updateCommands().addCommands(commands).submit();
+        future.thenAccept(success -> deploymentState.update(DeploymentState.GLOBAL, hash));
+        this.globalCommands = future;
+        log.debug("Done!");
+        return future;
+    }
+
+    /**
+     * Gets the global commands as returned by Discord after the last update. The result is shared by all shards.
+     *
+     * @return a {@link CompletableFuture} holding the global commands. Completes with an empty list if no update
+     * was sent by this process
+     */
+    public CompletableFuture<List<Command>> getGlobalCommands() {
+        return globalCommands;
+    }
+
+    // the commands of a set of guilds sharing the same scope
+    private static final class Payload {
+
+        private final BitSet scope;
+        private final List<CommandData> commands;
+        private final String hash;
+        private int guilds;
+
+        private Payload(List<SlashCommandData> commands, BitSet scope) {
+            this.scope = scope;
+            List<CommandData> selected = new ArrayList<>(scope.cardinality());
+            for (int i = scope.nextSetBit(0); i >= 0 && i < commands.size(); i = scope.nextSetBit(i + 1)) {
+                selected.add(commands.get(i));
+            }
+            this.commands = Collections.unmodifiableList(selected);
+            hash = CommandFingerprint.of(this.commands);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.github.kaktushose.jda.commands;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Records the time each phase of the startup of {@link JDACommands} takes. Phases running in the background, like
+ * the registration of the slash commands, get {@link #record(String, Duration) recorded} once they are done.
+ *
+ * @author Kaktushose
+ * @version 4.0.0
+ * @see JDACommands#getStartupReport()
+ * @since 4.0.0
+ */
+public class StartupReport {
+
+    private final Map<String, Duration> phases;
+
+    /**
+     * Constructs a new empty StartupReport.
+     */
+    public StartupReport() {
+        phases = new LinkedHashMap<>();
+    }
+
+    /**
+     * Runs and measures a phase.
+     *
+     * @param phase  the name of the phase
+     * @param action the action to run
+     */
+    public void measure(@NotNull String phase, @NotNull Runnable action) {
+        measure(phase, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs and measures a phase.
+     *
+     * @param phase  the name of the phase
+     * @param action the action to run
+     * @param <T>    the result type of the action
+     * @return the result of the action
+     */
+    public <T> T measure(@NotNull String phase, @NotNull Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            record(phase, Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * Records the duration of a phase that was measured elsewhere. If the phase was already recorded, the durations
+     * get added up.
+     *
+     * @param phase    the name of the phase
+     * @param duration the duration of the phase
+     */
+    public synchronized void record(@NotNull String phase, @NotNull Duration duration) {
+        phases.merge(phase, duration, Duration::plus);
+    }
+
+    /**
+     * Gets the duration of each phase in the order the phases were run.
+     *
+     * @return an unmodifiable snapshot of the phase names and their durations
+     */
+    @NotNull
+    public synchronized Map<String, Duration> getPhases() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(phases));
+    }
+
+    /**
+     * Gets the total duration of all phases.
+     *
+     * @return the total duration
+     */
+    @NotNull
+    public synchronized Duration getTotal() {
+        return phases.values().stream().reduce(Duration.ZERO, Duration::plus);
+    }
+
+    @Override
+    public synchronized String toString() {
+        long total = Math.max(getTotal().toNanos(), 1);
+        StringBuilder builder = new StringBuilder("Startup took ").append(getTotal().toMillis()).append("ms");
+        phases.forEach((phase, duration) -> builder.append(String.format("%n  %-24s %6dms %5.1f%%",
+                phase, duration.toMillis(), duration.toNanos() * 100.0 / total)));
+        return builder.toString();
+    }
+}
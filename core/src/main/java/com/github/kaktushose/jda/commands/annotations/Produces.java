@@ -20,7 +20,7 @@ import java.lang.annotation.Target;
  * actual command classes.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 4.0.0
  * @see Inject
  * @see com.github.kaktushose.jda.commands.dependency.DependencyInjector DependencyInjector
  * @since 1.0.0
@@ -28,4 +28,15 @@ import java.lang.annotation.Target;
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Produces {
+
+    /**
+     * Whether this producer should be called on first use instead of on startup. Lazy producers are called exactly
+     * once, even if multiple threads request the dependency at the same time.
+     *
+     * <p>Fields of type {@link java.util.function.Supplier Supplier} annotated with {@link Inject} defer the
+     * production even further, until {@link java.util.function.Supplier#get() Supplier#get()} gets called.
+     *
+     * @return {@code true} if this producer is lazy
+     */
+    boolean lazy() default false;
 }
@@ -63,4 +63,15 @@ public @interface Button {
      */
     boolean ephemeral() default false;
 
+    /**
+     * Whether this button is stateless. Stateless buttons don't keep the
+     * {@link com.github.kaktushose.jda.commands.dispatching.RuntimeSupervisor.InteractionRuntime InteractionRuntime}
+     * alive. Instead, all fields annotated with {@link State} are encoded into the custom id of the button and
+     * restored on a new instance once the button gets clicked. Thus, stateless buttons never time out.
+     *
+     * @return {@code true} if this button is stateless
+     * @see State
+     */
+    boolean stateless() default false;
+
 }
@@ -0,0 +1,90 @@
+package com.github.kaktushose.jda.commands.annotations.interactions;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Classes annotated with Interaction will be scanned at startup and are eligible for defining interactions such as
+ * slash commands, buttons, modals or context menus.
+ *
+ * @author Kaktushose
+ * @version 4.0.0
+ * @since 4.0.0
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Interaction {
+
+    /**
+     * Returns the base name for slash commands.
+     *
+     * @return the base name for slash commands
+     */
+    String value() default "";
+
+    /**
+     * Returns whether this interaction is active and thus can be executed or not
+     *
+     * @return {@code true} if this interaction is active
+     */
+    boolean isActive() default true;
+
+    /**
+     * Returns whether this interaction should send ephemeral replies by default.
+     *
+     * @return {@code true} if this interaction should send ephemeral replies by default
+     */
+    boolean ephemeral() default true;
+
+    /**
+     * Returns how long the runtime of this interaction will be kept alive, i.e. how long components like buttons
+     * attached by this interaction can be used.
+     *
+     * @return the timeout of the runtime
+     */
+    long timeout() default 15;
+
+    /**
+     * Returns the {@link TimeUnit} of the specified timeout.
+     *
+     * @return the {@link TimeUnit} of the specified timeout
+     */
+    TimeUnit timeoutUnit() default TimeUnit.MINUTES;
+
+    /**
+     * Returns how instances of this interaction class are shared between executions.
+     *
+     * @return the {@link InstanceScope} of this interaction class
+     * @see InstanceScope
+     */
+    InstanceScope scope() default InstanceScope.INVOCATION;
+
+    /**
+     * Enum describing the possible scopes of interaction class instances. Instances that are shared between
+     * executions are only created and injected once, but must be thread safe.
+     *
+     * @author Kaktushose
+     * @version 4.0.0
+     * @see Interaction#scope()
+     * @since 4.0.0
+     */
+    enum InstanceScope {
+        /**
+         * A single instance is shared by all executions.
+         */
+        SINGLETON,
+        /**
+         * One instance per guild is shared by all executions inside that guild. Executions outside of guilds
+         * behave like {@link #INVOCATION}.
+         */
+        GUILD,
+        /**
+         * A new instance is created for every execution.
+         */
+        INVOCATION
+    }
+
+}
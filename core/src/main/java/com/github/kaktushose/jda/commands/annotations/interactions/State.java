@@ -0,0 +1,24 @@
+package com.github.kaktushose.jda.commands.annotations.interactions;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fields annotated with State will be encoded into the custom id of {@link Button#stateless() stateless buttons} and
+ * restored once the button gets clicked.
+ *
+ * <p>The field must be declared inside a class that is annotated with {@link Interaction} and must be of a primitive
+ * type, a primitive wrapper type, {@link String} or an enum. The encoded state of all fields of a class must not
+ * exceed {@link com.github.kaktushose.jda.commands.dispatching.ComponentIdCodec#MAX_STATE_LENGTH 82} characters.
+ *
+ * @author Kaktushose
+ * @version 4.0.0
+ * @see Button#stateless()
+ * @since 4.0.0
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface State {
+}
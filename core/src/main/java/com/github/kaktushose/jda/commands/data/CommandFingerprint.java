@@ -0,0 +1,114 @@
+package com.github.kaktushose.jda.commands.data;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import net.dv8tion.jda.api.interactions.commands.build.CommandData;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Computes a canonical hash of a set of {@link CommandData}. The hash doesn't depend on the order of the commands
+ * nor on the order of the keys of their serialized form, thus two sets of commands describing the same payload
+ * always have the same hash.
+ *
+ * @author Kaktushose
+ * @version 4.0.0
+ * @see DeploymentState
+ * @since 4.0.0
+ */
+public final class CommandFingerprint {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private CommandFingerprint() {
+    }
+
+    /**
+     * Computes the hash of the given commands.
+     *
+     * @param commands the commands to compute the hash of
+     * @return the hash as a hex String
+     */
+    @NotNull
+    public static String of(@NotNull Collection<? extends CommandData> commands) {
+        List<String> canonical = new ArrayList<>(commands.size());
+        for (CommandData command : commands) {
+            canonical.add(canonicalize(command));
+        }
+        Collections.sort(canonical);
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported!", e);
+        }
+        for (String command : canonical) {
+            digest.update(command.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+        }
+        byte[] hash = digest.digest();
+        char[] chars = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; i++) {
+            chars[i * 2] = HEX[(hash[i] >> 4) & 15];
+            chars[i * 2 + 1] = HEX[hash[i] & 15];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Serializes a command to JSON with all object keys sorted.
+     *
+     * @param command the command to serialize
+     * @return the canonical JSON
+     */
+    @NotNull
+    public static String canonicalize(@NotNull CommandData command) {
+        StringBuilder builder = new StringBuilder();
+        append(builder, JsonParser.parseString(new String(command.toData().toJson(), StandardCharsets.UTF_8)));
+        return builder.toString();
+    }
+
+    private static void append(StringBuilder builder, JsonElement element) {
+        if (element.isJsonObject()) {
+            TreeMap<String, JsonElement> sorted = new TreeMap<>();
+            for (String key : ((JsonObject) element).keySet()) {
+                sorted.put(key, ((JsonObject) element).get(key));
+            }
+            builder.append('{');
+            boolean first = true;
+            for (Map.Entry<String, JsonElement> entry : sorted.entrySet()) {
+                if (!first) {
+                    builder.append(',');
+                }
+                first = false;
+                builder.append(new JsonPrimitive(entry.getKey())).append(':');
+                append(builder, entry.getValue());
+            }
+            builder.append('}');
+        } else if (element.isJsonArray()) {
+            builder.append('[');
+            JsonArray array = (JsonArray) element;
+            for (int i = 0; i < array.size(); i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+                append(builder, array.get(i));
+            }
+            builder.append(']');
+        } else {
+            builder.append(element);
+        }
+    }
+}
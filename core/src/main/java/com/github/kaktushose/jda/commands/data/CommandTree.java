@@ -0,0 +1,166 @@
+package com.github.kaktushose.jda.commands.data;
+
+import com.github.kaktushose.jda.commands.reflect.interactions.CommandDefinition;
+import net.dv8tion.jda.api.interactions.commands.build.SlashCommandData;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A tree data structure representing Commands sorted into Subcommands and SubcommandGroups. Each {@link TreeNode} can
+ * have <em>n</em> children, however the maximum level is <em>3</em> due to Discords limitations on SubcommandGroups.
+ *
+ * <p>The tree is built once while indexing the controllers and is used both for transpiling the commands to
+ * {@link SlashCommandData} and for routing incoming slash commands via {@link #find(String)}.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see TreeNode
+ * @see <a href="https://discord.com/developers/docs/interactions/application-commands#subcommands-and-subcommand-groups">Discord Subcommands and Subcommand Groups Documentation</a>
+ * @since 2.3.0
+ */
+public class CommandTree {
+
+    // maps each ASCII char to its sanitized form or to 0 if the char gets removed
+    private static final char[] LABEL_CHARS = new char[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            LABEL_CHARS[c] = c;
+            LABEL_CHARS[Character.toUpperCase(c)] = c;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            LABEL_CHARS[c] = c;
+        }
+        LABEL_CHARS['_'] = '_';
+        LABEL_CHARS['-'] = '-';
+        LABEL_CHARS[' '] = '_';
+    }
+
+    private final TreeNode root;
+    private volatile List<SlashCommandData> commands;
+
+    /**
+     * Constructs an empty CommandTree.
+     */
+    public CommandTree() {
+        root = new TreeNode();
+    }
+
+    /**
+     * Constructs a new CommandTree.
+     */
+    public CommandTree(Collection<CommandDefinition> commands) {
+        root = new TreeNode();
+        addAll(commands);
+    }
+
+    /**
+     * Adds a {@link CommandDefinition} to the {@link CommandTree}. The label of the {@link CommandDefinition} will be
+     * sanitized to match the regex {@code ^[\w-]+$}. Furthermore, if the label consists of more than three spaces any
+     * additional space will be replaced with {@code _} due to Discords limitations on SubcommandGroups.
+     *
+     * @param command the {@link CommandDefinition} to add
+     */
+    public void add(CommandDefinition command) {
+        root.addChild(resolveLabel(command.getName()), command);
+        commands = null;
+    }
+
+    /**
+     * Adds all {@link CommandDefinition CommandDefinitions} of the {@link Collection} to the {@link CommandTree}.
+     *
+     * @param commands a {@link Collection} of {@link CommandDefinition CommandDefinitions} to add
+     * @see #add(CommandDefinition)
+     */
+    public void addAll(Collection<CommandDefinition> commands) {
+        commands.forEach(this::add);
+    }
+
+    private String[] resolveLabel(String label) {
+        String[] split = label.split(" ", 3);
+        for (int i = 0; i < split.length; i++) {
+            split[i] = sanitize(split[i]);
+        }
+        return split;
+    }
+
+    /**
+     * Sanitizes a single label. Spaces get replaced with {@code _}, upper case letters get converted to lower case and
+     * any other char not matching the regex {@code ^[\w-]+$} gets removed.
+     *
+     * @param label the label to sanitize
+     * @return the sanitized label
+     */
+    public static String sanitize(String label) {
+        char[] chars = new char[label.length()];
+        int length = 0;
+        for (int i = 0; i < label.length(); i++) {
+            char c = label.charAt(i);
+            if (c < LABEL_CHARS.length && LABEL_CHARS[c] != 0) {
+                chars[length++] = LABEL_CHARS[c];
+            }
+        }
+        return new String(chars, 0, length);
+    }
+
+    /**
+     * Gets the {@link CommandDefinition} registered for the given full command name, e.g. the name returned by
+     * {@link net.dv8tion.jda.api.interactions.commands.CommandInteractionPayload#getFullCommandName()
+     * CommandInteractionPayload#getFullCommandName()}.
+     *
+     * @param name the full name of the command consisting of the sanitized labels separated by spaces
+     * @return an {@link Optional} holding the {@link CommandDefinition}
+     */
+    public Optional<CommandDefinition> find(String name) {
+        TreeNode node = root;
+        int start = 0;
+        while (true) {
+            int end = name.indexOf(' ', start);
+            Optional<TreeNode> child = node.getChild(end < 0 ? name.substring(start) : name.substring(start, end));
+            if (child.isEmpty()) {
+                return Optional.empty();
+            }
+            node = child.get();
+            if (end < 0) {
+                return node.getCommand();
+            }
+            start = end + 1;
+        }
+    }
+
+    /**
+     * Gets all {@link SlashCommandData}.This will only return the {@link SlashCommandData} of the leaf nodes.
+     *
+     * <p>The {@link SlashCommandData} is only built once and then shared by all deployments until another
+     * {@link CommandDefinition} gets added, thus it must not be modified.
+     *
+     * @return an unmodifiable {@link List} of {@link SlashCommandData}
+     */
+    public List<SlashCommandData> getCommands() {
+        List<SlashCommandData> result = commands;
+        if (result == null) {
+            result = Collections.unmodifiableList(root.getCommandData());
+            commands = result;
+        }
+        return result;
+    }
+
+    /**
+     * Gets the sanitized labels of all {@link SlashCommandData} returned by {@link #getCommands()}.
+     * The labels will match the regex {@code ^[\w-]+$}. Furthermore, if the label consists of more than three spaces
+     * any additional space will be replaced with {@code _} due to Discords limitations on SubcommandGroups.
+     *
+     * @return a {@link List} of labels
+     */
+    public List<String> getNames() {
+        return root.getNames();
+    }
+
+    @Override
+    public String toString() {
+        return root.toString();
+    }
+}
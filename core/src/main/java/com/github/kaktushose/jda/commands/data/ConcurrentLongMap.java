@@ -0,0 +1,209 @@
+package com.github.kaktushose.jda.commands.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * A concurrent hash map with primitive {@code long} keys, thus lookups don't need to box or convert the key. The map
+ * is split into segments, each guarded by its own lock. Reads never lock: the buckets of a segment are held in an
+ * {@link AtomicReferenceArray} and the nodes of a bucket are immutable except for their value, so modifications
+ * replace nodes instead of changing them.
+ *
+ * <p>Iteration is weakly consistent, i.e. it reflects some state of the map at or since the creation of the
+ * iteration and never throws a {@link java.util.ConcurrentModificationException}. Null values aren't permitted.
+ *
+ * @param <V> the type of values
+ * @author Kaktushose
+ * @version 4.0.0
+ * @since 4.0.0
+ */
+public class ConcurrentLongMap<V> {
+
+    private static final int SEGMENTS = 32;
+    private static final int SEGMENT_SHIFT = Integer.numberOfLeadingZeros(SEGMENTS - 1);
+    private final List<Segment<V>> segments;
+
+    /**
+     * Constructs a new ConcurrentLongMap.
+     */
+    public ConcurrentLongMap() {
+        segments = new ArrayList<>(SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments.add(new Segment<>());
+        }
+    }
+
+    /**
+     * Gets the value mapped to the given key.
+     *
+     * @param key the key to get the value for
+     * @return the value or {@code null} if the key isn't mapped
+     */
+    @Nullable
+    public V get(long key) {
+        int hash = hash(key);
+        AtomicReferenceArray<Node<V>> table = segmentFor(hash).table;
+        for (Node<V> node = table.get(hash & (table.length() - 1)); node != null; node = node.next) {
+            if (node.key == key) {
+                return node.value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Maps the given key to the given value, replacing any previous value.
+     *
+     * @param key   the key to map
+     * @param value the value to map the key to
+     * @return the previous value or {@code null} if the key wasn't mapped
+     */
+    @Nullable
+    public V put(long key, @NotNull V value) {
+        int hash = hash(key);
+        Segment<V> segment = segmentFor(hash);
+        synchronized (segment) {
+            AtomicReferenceArray<Node<V>> table = segment.table;
+            int index = hash & (table.length() - 1);
+            for (Node<V> node = table.get(index); node != null; node = node.next) {
+                if (node.key == key) {
+                    V previous = node.value;
+                    node.value = value;
+                    return previous;
+                }
+            }
+            if (segment.count + 1 > table.length() - (table.length() >>> 2)) {
+                table = segment.resize();
+                index = hash & (table.length() - 1);
+            }
+            table.set(index, new Node<>(key, hash, value, table.get(index)));
+            segment.count++;
+            return null;
+        }
+    }
+
+    /**
+     * Removes the mapping of the given key.
+     *
+     * @param key the key to remove
+     * @return the removed value or {@code null} if the key wasn't mapped
+     */
+    @Nullable
+    public V remove(long key) {
+        return removeNode(key, null);
+    }
+
+    /**
+     * Removes the mapping of the given key only if it is mapped to the given value. Values are compared by identity.
+     *
+     * @param key   the key to remove
+     * @param value the value the key must be mapped to
+     * @return {@code true} if the mapping got removed
+     */
+    public boolean remove(long key, @NotNull V value) {
+        return removeNode(key, value) != null;
+    }
+
+    /**
+     * Gets the amount of mappings.
+     *
+     * @return the amount of mappings
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<V> segment : segments) {
+            size += segment.count;
+        }
+        return size;
+    }
+
+    /**
+     * Performs the given action for each value of this map.
+     *
+     * @param action the action to perform
+     */
+    public void forEachValue(@NotNull Consumer<? super V> action) {
+        for (Segment<V> segment : segments) {
+            AtomicReferenceArray<Node<V>> table = segment.table;
+            for (int i = 0; i < table.length(); i++) {
+                for (Node<V> node = table.get(i); node != null; node = node.next) {
+                    action.accept(node.value);
+                }
+            }
+        }
+    }
+
+    private V removeNode(long key, Object expected) {
+        int hash = hash(key);
+        Segment<V> segment = segmentFor(hash);
+        synchronized (segment) {
+            AtomicReferenceArray<Node<V>> table = segment.table;
+            int index = hash & (table.length() - 1);
+            Node<V> first = table.get(index);
+            Node<V> node = first;
+            while (node != null && node.key != key) {
+                node = node.next;
+            }
+            if (node == null || (expected != null && node.value != expected)) {
+                return null;
+            }
+            // nodes are immutable, thus copy all nodes in front of the removed one
+            Node<V> head = node.next;
+            for (Node<V> current = first; current != node; current = current.next) {
+                head = new Node<>(current.key, current.hash, current.value, head);
+            }
+            table.set(index, head);
+            segment.count--;
+            return node.value;
+        }
+    }
+
+    private Segment<V> segmentFor(int hash) {
+        return segments.get(hash >>> SEGMENT_SHIFT);
+    }
+
+    private static int hash(long key) {
+        // snowflakes have poorly distributed low bits, thus mix all bits
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private static final class Segment<V> {
+        private volatile AtomicReferenceArray<Node<V>> table = new AtomicReferenceArray<>(16);
+        private volatile int count;
+
+        // must be called while holding the lock of this segment
+        private AtomicReferenceArray<Node<V>> resize() {
+            AtomicReferenceArray<Node<V>> old = table;
+            AtomicReferenceArray<Node<V>> resized = new AtomicReferenceArray<>(old.length() << 1);
+            int mask = resized.length() - 1;
+            for (int i = 0; i < old.length(); i++) {
+                for (Node<V> node = old.get(i); node != null; node = node.next) {
+                    int index = node.hash & mask;
+                    resized.set(index, new Node<>(node.key, node.hash, node.value, resized.get(index)));
+                }
+            }
+            table = resized;
+            return resized;
+        }
+    }
+
+    private static final class Node<V> {
+        private final long key;
+        private final int hash;
+        private final Node<V> next;
+        private volatile V value;
+
+        private Node(long key, int hash, V value, Node<V> next) {
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+            this.next = next;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.github.kaktushose.jda.commands.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of the {@link CommandFingerprint hashes} of the command sets that were last deployed to Discord, thus
+ * unchanged targets can be skipped. A target is either {@link #GLOBAL} or the id of a guild.
+ *
+ * <p>The state is persisted to an append-only file holding one {@code target hash} pair per line, with the last line
+ * of a target winning. The file gets compacted when it's loaded. The first line holds the id of the application the
+ * state belongs to, thus the state of another application sharing the same file gets discarded instead of skipping
+ * its deployments. If no file is provided, the state is only kept in memory.
+ *
+ * @author Kaktushose
+ * @version 4.0.0
+ * @see CommandFingerprint
+ * @since 4.0.0
+ */
+public class DeploymentState {
+
+    /**
+     * The target of the global commands.
+     */
+    public static final String GLOBAL = "global";
+
+    private static final Logger log = LoggerFactory.getLogger(DeploymentState.class);
+    private final Map<String, String> hashes;
+    private final Path file;
+    private final String header;
+    private BufferedWriter writer;
+
+    /**
+     * Constructs a new DeploymentState that only keeps the state in memory.
+     */
+    public DeploymentState() {
+        this(null, 0);
+    }
+
+    /**
+     * Constructs a new DeploymentState.
+     *
+     * @param file          the file to persist the state to or {@code null} to only keep the state in memory
+     * @param applicationId the id of the application the state belongs to
+     */
+    public DeploymentState(@Nullable Path file, long applicationId) {
+        this.file = file;
+        header = "application " + Long.toUnsignedString(applicationId);
+        hashes = new ConcurrentHashMap<>();
+        if (file != null) {
+            load();
+        }
+    }
+
+    /**
+     * Gets the hash of the command set last deployed to the given target.
+     *
+     * @param target the target, either {@link #GLOBAL} or a guild id
+     * @return an {@link Optional} holding the hash
+     */
+    @NotNull
+    public Optional<String> getHash(@NotNull String target) {
+        return Optional.ofNullable(hashes.get(target));
+    }
+
+    /**
+     * Whether the command set with the given hash is already deployed to the given target.
+     *
+     * @param target the target, either {@link #GLOBAL} or a guild id
+     * @param hash   the hash of the command set
+     * @return {@code true} if the command set is already deployed
+     */
+    public boolean isDeployed(@NotNull String target, @NotNull String hash) {
+        return hash.equals(hashes.get(target));
+    }
+
+    /**
+     * Records that the command set with the given hash was deployed to the given target.
+     *
+     * @param target the target, either {@link #GLOBAL} or a guild id
+     * @param hash   the hash of the command set
+     */
+    public synchronized void update(@NotNull String target, @NotNull String hash) {
+        if (hash.equals(hashes.put(target, hash)) || file == null) {
+            return;
+        }
+        try {
+            if (writer == null) {
+                boolean empty = !Files.exists(file) || Files.size(file) == 0;
+                writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                if (empty) {
+                    writer.write(header);
+                    writer.newLine();
+                }
+            }
+            writer.write(target);
+            writer.write(' ');
+            writer.write(hash);
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            log.error("Unable to persist deployment state!", e);
+        }
+    }
+
+    /**
+     * Forgets all deployed hashes, thus the next deployment will update every target.
+     */
+    public synchronized void clear() {
+        hashes.clear();
+        if (file == null) {
+            return;
+        }
+        try {
+            closeWriter();
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.error("Unable to clear deployment state!", e);
+        }
+    }
+
+    /**
+     * Closes the underlying file.
+     */
+    public synchronized void close() {
+        try {
+            closeWriter();
+        } catch (IOException e) {
+            log.error("Unable to close deployment state!", e);
+        }
+    }
+
+    private void closeWriter() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+
+    private void load() {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try {
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            if (lines.isEmpty() || !lines.get(0).equals(header)) {
+                log.info("Deployment state {} belongs to another application! Deploying all commands", file);
+                Files.delete(file);
+                return;
+            }
+            for (String line : lines.subList(1, lines.size())) {
+                int separator = line.indexOf(' ');
+                if (separator > 0) {
+                    hashes.put(line.substring(0, separator), line.substring(separator + 1).trim());
+                }
+            }
+            log.debug("Loaded deployment state of {} target(s)", hashes.size());
+            if (lines.size() - 1 > hashes.size()) {
+                compact();
+            }
+        } catch (IOException e) {
+            log.error("Unable to load deployment state! Deploying all commands", e);
+            hashes.clear();
+        }
+    }
+
+    private void compact() throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            out.write(header);
+            out.newLine();
+            for (Map.Entry<String, String> entry : hashes.entrySet()) {
+                out.write(entry.getKey());
+                out.write(' ');
+                out.write(entry.getValue());
+                out.newLine();
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,242 @@
+package com.github.kaktushose.jda.commands.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Implementation of {@link RuntimeStore} backed by a memory-mapped, append-only local file. Every call of
+ * {@link #store(String, byte[], long)} appends a new record and marks the previous record of the same id as removed.
+ * Removed and expired records are dropped by compacting the file in place once removed records make up more than half
+ * of the file, thus a runtime that gets stored over and over again doesn't grow the file.
+ *
+ * <p>Each record has the following layout:
+ * <pre>
+ * int   length of the whole record, 0 marks the end of the log
+ * byte  1 if the record is live, 0 if it was removed
+ * long  epoch millis after which the record expires
+ * short length of the id
+ * byte[] id as UTF-8
+ * byte[] state
+ * </pre>
+ *
+ * @author Kaktushose
+ * @version 4.0.0
+ * @since 4.0.0
+ */
+public class MappedRuntimeStore implements RuntimeStore {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedRuntimeStore.class);
+    private static final int HEADER_SIZE = 15;
+    private static final int INITIAL_CAPACITY = 1 << 20;
+    private static final int COMPACTION_THRESHOLD = 1 << 16;
+    private final Path file;
+    private final FileChannel channel;
+    private final Map<String, Integer> index;
+    private MappedByteBuffer buffer;
+    private int end;
+    private int deadBytes;
+
+    /**
+     * Constructs a new MappedRuntimeStore and loads all live records of the given file. The file will be created if
+     * it doesn't exist.
+     *
+     * @param file the {@link Path} of the file to store the runtimes in
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    public MappedRuntimeStore(@NotNull Path file) throws IOException {
+        this.file = file;
+        index = new HashMap<>();
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long capacity = INITIAL_CAPACITY;
+        while (capacity < channel.size()) {
+            capacity <<= 1;
+        }
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.min(capacity, Integer.MAX_VALUE));
+        scan();
+        log.debug("Loaded {} runtime(s) from {}", index.size(), file);
+    }
+
+    @Override
+    public synchronized void store(@NotNull String id, @NotNull byte[] state, long expiration) {
+        // compact before growing, replaced records of the same id are usually the bulk of the removed records
+        compactIfNeeded();
+        byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+        int length = HEADER_SIZE + idBytes.length + state.length;
+        ensureCapacity((long) end + length + Integer.BYTES);
+
+        // write the length last, so that a partially written record is never read
+        buffer.putInt(end + length, 0);
+        buffer.put(end + 4, (byte) 1);
+        buffer.putLong(end + 5, expiration);
+        buffer.putShort(end + 13, (short) idBytes.length);
+        buffer.position(end + HEADER_SIZE);
+        buffer.put(idBytes);
+        buffer.put(state);
+        buffer.putInt(end, length);
+
+        Integer previous = index.put(id, end);
+        if (previous != null) {
+            kill(previous);
+        }
+        end += length;
+    }
+
+    @Override
+    public synchronized Optional<Entry> load(@NotNull String id) {
+        Integer position = index.get(id);
+        if (position == null) {
+            return Optional.empty();
+        }
+        long expiration = buffer.getLong(position + 5);
+        if (expiration <= System.currentTimeMillis()) {
+            remove(id);
+            return Optional.empty();
+        }
+        int idLength = buffer.getShort(position + 13);
+        byte[] state = new byte[buffer.getInt(position) - HEADER_SIZE - idLength];
+        buffer.position(position + HEADER_SIZE + idLength);
+        buffer.get(state);
+        return Optional.of(new Entry(state, expiration));
+    }
+
+    @Override
+    public synchronized void remove(@NotNull String id) {
+        Integer position = index.remove(id);
+        if (position == null) {
+            return;
+        }
+        kill(position);
+        compactIfNeeded();
+    }
+
+    /**
+     * Gets the amount of live records.
+     *
+     * @return the amount of live records
+     */
+    public synchronized int size() {
+        return index.size();
+    }
+
+    /**
+     * Gets the amount of bytes used by all records, including removed and expired ones.
+     *
+     * @return the amount of bytes used by all records
+     */
+    public synchronized int getLogSize() {
+        return end;
+    }
+
+    /**
+     * Drops all removed and expired records by moving the live records to the start of the file.
+     */
+    public synchronized void compact() {
+        long now = System.currentTimeMillis();
+        int read = 0;
+        int write = 0;
+        while (read < end) {
+            int length = buffer.getInt(read);
+            if (buffer.get(read + 4) == 1) {
+                String id = readId(read);
+                if (buffer.getLong(read + 5) <= now) {
+                    index.remove(id);
+                } else {
+                    if (write != read) {
+                        byte[] record = new byte[length];
+                        buffer.position(read);
+                        buffer.get(record);
+                        buffer.position(write);
+                        buffer.put(record);
+                    }
+                    index.put(id, write);
+                    write += length;
+                }
+            }
+            read += length;
+        }
+        buffer.putInt(write, 0);
+        log.debug("Compacted {} from {} to {} bytes", file, end, write);
+        end = write;
+        deadBytes = 0;
+    }
+
+    @Override
+    public synchronized void close() {
+        buffer.force();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.error("Unable to close runtime store!", e);
+        }
+    }
+
+    private void scan() {
+        long now = System.currentTimeMillis();
+        int position = 0;
+        while (position + HEADER_SIZE <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length < HEADER_SIZE || position + length > buffer.capacity()) {
+                break;
+            }
+            if (buffer.get(position + 4) == 1 && buffer.getLong(position + 5) > now) {
+                Integer previous = index.put(readId(position), position);
+                if (previous != null) {
+                    kill(previous);
+                }
+            } else {
+                deadBytes += length;
+            }
+            position += length;
+        }
+        end = position;
+    }
+
+    private String readId(int position) {
+        byte[] id = new byte[buffer.getShort(position + 13)];
+        buffer.position(position + HEADER_SIZE);
+        buffer.get(id);
+        return new String(id, StandardCharsets.UTF_8);
+    }
+
+    private void compactIfNeeded() {
+        if (deadBytes > COMPACTION_THRESHOLD && deadBytes > end / 2) {
+            compact();
+        }
+    }
+
+    private void kill(int position) {
+        buffer.put(position + 4, (byte) 0);
+        deadBytes += buffer.getInt(position);
+    }
+
+    private void ensureCapacity(long required) {
+        if (required <= buffer.capacity()) {
+            return;
+        }
+        if (required > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Runtime store exceeded maximum size!");
+        }
+        long capacity = buffer.capacity();
+        while (capacity < required) {
+            capacity <<= 1;
+        }
+        buffer.force();
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.min(capacity, Integer.MAX_VALUE));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to grow runtime store!", e);
+        }
+    }
+}
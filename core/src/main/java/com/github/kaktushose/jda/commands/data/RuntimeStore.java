@@ -0,0 +1,89 @@
+package com.github.kaktushose.jda.commands.data;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Optional;
+
+/**
+ * Persistent storage for the serialized state of
+ * {@link com.github.kaktushose.jda.commands.dispatching.RuntimeSupervisor.InteractionRuntime InteractionRuntimes}.
+ * This allows runtimes to survive restarts and to be offloaded from the heap.
+ *
+ * @author Kaktushose
+ * @version 4.0.0
+ * @see MappedRuntimeStore
+ * @since 4.0.0
+ */
+public interface RuntimeStore {
+
+    /**
+     * Stores the state of a runtime. If a state is already stored for the given id, it will be replaced.
+     *
+     * @param id         the id of the runtime
+     * @param state      the serialized state of the runtime
+     * @param expiration the epoch millis after which the state expires
+     */
+    void store(@NotNull String id, @NotNull byte[] state, long expiration);
+
+    /**
+     * Gets the state of a runtime. Returns an empty {@link Optional} if no state is stored for the given id or if the
+     * state has expired.
+     *
+     * @param id the id of the runtime
+     * @return an {@link Optional} holding the {@link Entry}
+     */
+    Optional<Entry> load(@NotNull String id);
+
+    /**
+     * Removes the state of a runtime. Does nothing if no state is stored for the given id.
+     *
+     * @param id the id of the runtime
+     */
+    void remove(@NotNull String id);
+
+    /**
+     * Flushes all pending changes and releases all underlying resources.
+     */
+    void close();
+
+    /**
+     * The state of a runtime loaded from a {@link RuntimeStore}.
+     *
+     * @author Kaktushose
+     * @version 4.0.0
+     * @since 4.0.0
+     */
+    class Entry {
+        private final byte[] state;
+        private final long expiration;
+
+        /**
+         * Constructs a new Entry.
+         *
+         * @param state      the serialized state of the runtime
+         * @param expiration the epoch millis after which the state expires
+         */
+        public Entry(byte[] state, long expiration) {
+            this.state = state;
+            this.expiration = expiration;
+        }
+
+        /**
+         * Gets the serialized state of the runtime.
+         *
+         * @return the serialized state
+         */
+        public byte[] getState() {
+            return state;
+        }
+
+        /**
+         * Gets the epoch millis after which the state expires.
+         *
+         * @return the expiration
+         */
+        public long getExpiration() {
+            return expiration;
+        }
+    }
+}
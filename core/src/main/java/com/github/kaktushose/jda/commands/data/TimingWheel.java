@@ -0,0 +1,127 @@
+package com.github.kaktushose.jda.commands.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * A hashed timing wheel that expires keys in bulk. Instead of scheduling one task per key, each key is put into the
+ * bucket of the tick it expires in. A single thread advances the wheel once per tick and expires all due keys of the
+ * current bucket at once. Keys with a timeout exceeding one rotation of the wheel stay in their bucket until their
+ * deadline has passed.
+ *
+ * @param <K> the type of keys to expire
+ * @author Kaktushose
+ * @version 4.0.0
+ * @since 4.0.0
+ */
+public class TimingWheel<K> {
+
+    private static final Logger log = LoggerFactory.getLogger(TimingWheel.class);
+    private final long tickMillis;
+    private final int mask;
+    private final List<Queue<Entry<K>>> buckets;
+    private final Consumer<K> expirationListener;
+    private final ScheduledExecutorService executor;
+    private long lastTick;
+
+    /**
+     * Constructs a new TimingWheel and starts advancing it.
+     *
+     * @param tick               the duration of a single tick
+     * @param unit               the {@link TimeUnit} of the tick duration
+     * @param wheelSize          the amount of buckets, will be rounded up to the next power of two
+     * @param expirationListener the {@link Consumer} to call for each expired key
+     */
+    public TimingWheel(long tick, @NotNull TimeUnit unit, int wheelSize, @NotNull Consumer<K> expirationListener) {
+        if (tick <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("Tick duration and wheel size must be positive!");
+        }
+        tickMillis = Math.max(1, unit.toMillis(tick));
+        int size = Integer.highestOneBit(wheelSize);
+        if (size < wheelSize) {
+            size <<= 1;
+        }
+        mask = size - 1;
+        buckets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            buckets.add(new ConcurrentLinkedQueue<>());
+        }
+        this.expirationListener = expirationListener;
+        lastTick = System.currentTimeMillis() / tickMillis;
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "JDA-Commands TimingWheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Schedules the expiration of a key.
+     *
+     * @param key     the key to expire
+     * @param timeout the time after which the key expires
+     * @param unit    the {@link TimeUnit} of the timeout
+     */
+    public void schedule(@NotNull K key, long timeout, @NotNull TimeUnit unit) {
+        long deadline = System.currentTimeMillis() + unit.toMillis(timeout);
+        // round up so that a key never expires before its deadline
+        long tick = (deadline + tickMillis - 1) / tickMillis;
+        buckets.get((int) (tick & mask)).add(new Entry<>(key, deadline));
+    }
+
+    /**
+     * Stops advancing this wheel. Keys that haven't expired yet will never expire.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void advance() {
+        try {
+            long now = System.currentTimeMillis();
+            long currentTick = now / tickMillis;
+            // if the executor fell behind more than one rotation every bucket only needs to be visited once
+            long from = Math.max(lastTick + 1, currentTick - mask);
+            for (long tick = from; tick <= currentTick; tick++) {
+                expire(buckets.get((int) (tick & mask)), now);
+            }
+            lastTick = currentTick;
+        } catch (Exception e) {
+            log.error("Unable to advance timing wheel!", e);
+        }
+    }
+
+    private void expire(Queue<Entry<K>> bucket, long now) {
+        Iterator<Entry<K>> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Entry<K> entry = iterator.next();
+            if (entry.deadline > now) {
+                continue;
+            }
+            iterator.remove();
+            expirationListener.accept(entry.key);
+        }
+    }
+
+    private static class Entry<K> {
+        private final K key;
+        private final long deadline;
+
+        private Entry(K key, long deadline) {
+            this.key = key;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -26,6 +26,7 @@ public class TreeNode implements Iterable<TreeNode> {
     private final String name;
     private final CommandDefinition command;
     private final List<TreeNode> children;
+    private final Map<String, TreeNode> childrenByName;
 
     /**
      * Constructs an empty TreeNode. Should only be used for root nodes.
@@ -44,6 +45,7 @@ public class TreeNode implements Iterable<TreeNode> {
         this.name = name;
         this.command = command;
         children = new ArrayList<>();
+        childrenByName = new HashMap<>();
     }
 
     /**
@@ -68,14 +70,13 @@ public class TreeNode implements Iterable<TreeNode> {
         if (labels.length > 1) {
             childrenLabels = Arrays.copyOfRange(labels, 1, labels.length);
         }
-        Optional<TreeNode> optional = getChild(rootLabel);
-        if (optional.isPresent()) {
-            optional.get().addChild(childrenLabels, command);
-        } else {
-            TreeNode child = new TreeNode(rootLabel, command);
+        TreeNode child = childrenByName.get(rootLabel);
+        if (child == null) {
+            child = new TreeNode(rootLabel, command);
             children.add(child);
-            child.addChild(childrenLabels, command);
+            childrenByName.put(rootLabel, child);
         }
+        child.addChild(childrenLabels, command);
     }
 
     /**
@@ -85,7 +86,7 @@ public class TreeNode implements Iterable<TreeNode> {
      * @return an {@link Optional} holding the result
      */
     public Optional<TreeNode> getChild(String name) {
-        return children.stream().filter(child -> child.name.equals(name)).findFirst();
+        return Optional.ofNullable(childrenByName.get(name));
     }
 
     /**
@@ -98,12 +99,12 @@ public class TreeNode implements Iterable<TreeNode> {
     }
 
     /**
-     * Gets all children {@link TreeNode TreeNodes}.
+     * Gets all children {@link TreeNode TreeNodes} in the order they were added.
      *
-     * @return all children {@link TreeNode TreeNodes}
+     * @return an unmodifiable list of all children {@link TreeNode TreeNodes}
      */
     public List<TreeNode> getChildren() {
-        return children;
+        return Collections.unmodifiableList(children);
     }
 
     /**
@@ -0,0 +1,387 @@
+package com.github.kaktushose.jda.commands.dependency;
+
+import com.github.kaktushose.jda.commands.annotations.Produces;
+import com.github.kaktushose.jda.commands.reflect.ClassIndex;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Central registry for dependencies and producing methods. Registered dependencies will be injected with the
+ * corresponding values if present, else null.
+ *
+ * <p>For every class registered by {@link #registerDependencies(Class, List)} an injection plan gets compiled. A plan
+ * consists of pre-resolved {@link VarHandle VarHandles} paired with the values to inject. Plans are recompiled
+ * whenever new dependencies get provided, thus {@link #inject(Object)} needs neither reflection nor map lookups
+ * besides finding the plan.
+ *
+ * <p>Dependencies are resolved by assignability, i.e. a field of type {@code DataSource} will be injected with a
+ * produced {@code HikariDataSource}. A provided object of the exact field type always takes precedence. If multiple
+ * provided objects are assignable to a field type and none of them matches exactly, the dependency is ambiguous and
+ * {@code null} gets injected. Resolved dependencies are cached per requested type.
+ *
+ * <p>Produced objects are always provided for the declared return type of their producer, regardless of whether the
+ * producer is lazy or not. Objects of eager producers are additionally provided for their runtime class, thus a field of
+ * type {@code HikariDataSource} also gets injected if the producer declares {@code DataSource}. Since lazy producers
+ * haven't been called at indexing time, this doesn't apply to them. Producers annotated with {@link Produces#lazy() lazy} are called on first use, exactly once
+ * if they succeed. A lazy producer that fails gets called again on the next use. All other producers found by
+ * {@link #index(ClassIndex)} are called in parallel, using at most one thread per available processor. Fields of type
+ * {@link Supplier} get a supplier of the dependency injected, which allows to defer the production of lazy
+ * dependencies until they are actually needed.
+ *
+ * @author Kaktushose
+ * @version 4.0.0
+ * @see Produces
+ * @see com.github.kaktushose.jda.commands.annotations.Inject Inject
+ * @since 1.0.0
+ */
+public class DependencyInjector {
+
+    private final Map<Class<?>, Object> providedObjects;
+    // objects of eager producers by their runtime class, only if it differs from the declared return type
+    private final Map<Class<?>, Object> runtimeObjects;
+    private final Logger log = LoggerFactory.getLogger(DependencyInjector.class);
+    private final Map<Class<?>, List<Field>> dependencies;
+    private final Map<Class<?>, InjectionPlan> plans;
+    private volatile ClassValue<Object> resolved;
+
+    /**
+     * Create a new DependencyInjector.
+     */
+    public DependencyInjector() {
+        providedObjects = new ConcurrentHashMap<>();
+        runtimeObjects = new ConcurrentHashMap<>();
+        dependencies = new ConcurrentHashMap<>();
+        plans = new ConcurrentHashMap<>();
+        resolved = newCache();
+    }
+
+    /**
+     * Scans the whole classpath for methods annotated with {@link Produces}.
+     *
+     * @param packages package(s) to exclusively scan
+     * @param clazz    a class of the classpath to scan
+     * @see #index(ClassIndex)
+     */
+    public void index(@NotNull Class<?> clazz, @NotNull String... packages) {
+        index(ClassIndex.create(clazz, packages));
+    }
+
+    /**
+     * Registers all methods annotated with {@link Produces} of the given {@link ClassIndex}. Creates a new instance of
+     * the declaring class and will call the method to retrieve the object and register it as a dependency. If the
+     * method is declared as static, no instance will be created. Use {@link #registerProvider(Object)} if no new
+     * instance of the declaring class should be created.
+     *
+     * @param index the {@link ClassIndex} to get the producers from
+     */
+    public void index(@NotNull ClassIndex index) {
+        log.debug("Indexing dependency providers...");
+
+        Set<Method> methods = index.getProducers();
+        Map<Method, Callable<Object>> eager = new LinkedHashMap<>();
+        for (Method method : methods) {
+            log.debug("Found producer {}", method.getName());
+            if (method.getParameterTypes().length != 0) {
+                log.error("An error has occurred! Skipping Producer {}", method,
+                        new IllegalArgumentException("Producer method must not have parameters!"));
+                continue;
+            }
+            Callable<Object> producer = () -> {
+                Object instance = null;
+                if (!Modifier.isStatic(method.getModifiers())) {
+                    instance = method.getDeclaringClass().getConstructors()[0].newInstance();
+                }
+                method.setAccessible(true);
+                return method.invoke(instance);
+            };
+            if (method.getAnnotation(Produces.class).lazy()) {
+                registerLazy(method, producer);
+                continue;
+            }
+            eager.put(method, producer);
+        }
+        produceInParallel(eager);
+        compilePlans();
+    }
+
+    // producers have no parameters, thus they are independent of each other and can run in parallel
+    private void produceInParallel(Map<Method, Callable<Object>> producers) {
+        if (producers.isEmpty()) {
+            return;
+        }
+        int threads = Math.min(producers.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "JDA-Commands Producer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            Map<Method, Future<Object>> futures = new LinkedHashMap<>();
+            producers.forEach((method, producer) -> futures.put(method, executor.submit(producer)));
+            for (Map.Entry<Method, Future<Object>> entry : futures.entrySet()) {
+                try {
+                    register(entry.getKey(), entry.getValue().get());
+                } catch (ExecutionException e) {
+                    log.error("Unable to access method {}", entry.getKey(), e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("An error has occurred! Interrupted while waiting for producers", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Takes an instance of a class and scans it for methods annotated with {@link Produces}. If found, will call
+     * the method to retrieve the object and register it as a dependency.
+     *
+     * @param provider instance of the class to scan
+     */
+    public void registerProvider(@NotNull Object provider) {
+        log.debug("Indexing dependency providers...");
+        for (Method method : provider.getClass().getDeclaredMethods()) {
+            if (!method.isAnnotationPresent(Produces.class)) {
+                continue;
+            }
+            log.debug("Found producer {}", method.getName());
+            if (method.getParameterTypes().length != 0) {
+                log.error("An error has occurred! Skipping Producer {}", method,
+                        new IllegalArgumentException("Producer method must not have parameters!"));
+                continue;
+            }
+            method.setAccessible(true);
+            if (method.getAnnotation(Produces.class).lazy()) {
+                registerLazy(method, () -> method.invoke(provider));
+                continue;
+            }
+            try {
+                register(method, method.invoke(provider));
+            } catch (Exception e) {
+                log.error("Unable to access method {}", method, e);
+            }
+        }
+        compilePlans();
+    }
+
+    /**
+     * Registers fields inside a class as dependencies.
+     *
+     * @param clazz  the declaring class
+     * @param fields the dependencies to register
+     */
+    public void registerDependencies(@NotNull Class<?> clazz, @NotNull List<Field> fields) {
+        dependencies.put(clazz, fields);
+        plans.put(clazz, compile(fields));
+    }
+
+    private void register(Method method, Object object) {
+        if (object == null) {
+            return;
+        }
+        providedObjects.put(method.getReturnType(), object);
+        log.debug("Registered {} for {}", object, method.getReturnType());
+        if (object.getClass() != method.getReturnType()) {
+            runtimeObjects.put(object.getClass(), object);
+            log.debug("Registered {} for runtime class {}", object, object.getClass());
+        }
+    }
+
+    private void registerLazy(Method method, Callable<Object> producer) {
+        providedObjects.put(method.getReturnType(), new LazyDependency(method, producer));
+        log.debug("Registered lazy producer {} for {}", method.getName(), method.getReturnType());
+    }
+
+    /**
+     * Injects all registered dependencies with the corresponding value. If no value is present {@code null} gets injected.
+     */
+    public void inject(Object instance) {
+        InjectionPlan plan = plans.get(instance.getClass());
+        if (plan == null) {
+            return;
+        }
+        VarHandle[] handles = plan.handles;
+        Object[] values = plan.values;
+        boolean[] deferred = plan.deferred;
+        for (int i = 0; i < handles.length; i++) {
+            handles[i].set(instance, deferred[i] ? ((LazyDependency) values[i]).get() : values[i]);
+        }
+    }
+
+    /**
+     * Gets the provided object that gets injected into fields of the given type.
+     *
+     * @param type the type of the dependency
+     * @return an {@link Optional} holding the provided object or an empty {@link Optional} if no object or multiple
+     * ambiguous objects are provided for the given type. If the object is provided lazily, it will be produced by this
+     * method if it hasn't been produced yet
+     */
+    public Optional<Object> resolve(@NotNull Class<?> type) {
+        Object object = resolved.get(type);
+        return Optional.ofNullable(object instanceof LazyDependency ? ((LazyDependency) object).get() : object);
+    }
+
+    private ClassValue<Object> newCache() {
+        return new ClassValue<>() {
+            @Override
+            protected Object computeValue(Class<?> type) {
+                return resolveUncached(type);
+            }
+        };
+    }
+
+    private Object resolveUncached(Class<?> type) {
+        Object exact = providedObjects.get(type);
+        if (exact != null) {
+            return exact;
+        }
+        exact = runtimeObjects.get(type);
+        if (exact != null) {
+            return exact;
+        }
+        // an object registered for both its return type and its runtime class must only count once
+        Set<Object> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        addCandidates(type, providedObjects, candidates);
+        addCandidates(type, runtimeObjects, candidates);
+        if (candidates.size() > 1) {
+            log.error("Ambiguous dependency! {} is satisfied by multiple provided objects: {}", type.getName(), candidates);
+            return null;
+        }
+        if (candidates.isEmpty()) {
+            warnIfNarrowed(type);
+            return null;
+        }
+        return candidates.iterator().next();
+    }
+
+    private void addCandidates(Class<?> type, Map<Class<?>, Object> objects, Set<Object> candidates) {
+        for (Map.Entry<Class<?>, Object> entry : objects.entrySet()) {
+            if (type.isAssignableFrom(entry.getKey())) {
+                candidates.add(entry.getValue());
+            }
+        }
+    }
+
+    // a producer declaring a supertype of the requested type might produce a matching object nevertheless
+    private void warnIfNarrowed(Class<?> type) {
+        for (Class<?> provided : providedObjects.keySet()) {
+            if (provided != Object.class && provided.isAssignableFrom(type)) {
+                log.warn("No dependency found for {}, but a producer declares its supertype {}. "
+                                + "Declare {} as return type of the producer to inject it",
+                        type.getName(), provided.getName(), type.getName());
+                return;
+            }
+        }
+    }
+
+    private void compilePlans() {
+        resolved = newCache();
+        dependencies.forEach((clazz, fields) -> plans.put(clazz, compile(fields)));
+    }
+
+    private InjectionPlan compile(List<Field> fields) {
+        List<VarHandle> handles = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        List<Boolean> deferred = new ArrayList<>();
+        for (Field field : fields) {
+            if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+                log.error("Unable to inject field {}", field,
+                        new IllegalArgumentException("Dependencies must not be static or final!"));
+                continue;
+            }
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+                VarHandle handle = lookup.unreflectVarHandle(field);
+                Object value;
+                if (field.getType() == Supplier.class) {
+                    Object dependency = resolved.get(getSupplierType(field));
+                    value = dependency instanceof LazyDependency ? dependency : (Supplier<Object>) () -> dependency;
+                } else {
+                    value = resolved.get(field.getType());
+                }
+                handles.add(handle);
+                values.add(value);
+                deferred.add(value instanceof LazyDependency && field.getType() != Supplier.class);
+            } catch (IllegalAccessException e) {
+                log.error("Unable to inject field {}", field, e);
+            }
+        }
+        boolean[] deferredArray = new boolean[deferred.size()];
+        for (int i = 0; i < deferredArray.length; i++) {
+            deferredArray[i] = deferred.get(i);
+        }
+        return new InjectionPlan(handles.toArray(new VarHandle[0]), values.toArray(), deferredArray);
+    }
+
+    private Class<?> getSupplierType(Field field) {
+        Type type = field.getGenericType();
+        if (type instanceof ParameterizedType) {
+            Type argument = ((ParameterizedType) type).getActualTypeArguments()[0];
+            if (argument instanceof ParameterizedType) {
+                argument = ((ParameterizedType) argument).getRawType();
+            }
+            if (argument instanceof Class) {
+                return (Class<?>) argument;
+            }
+        }
+        return Object.class;
+    }
+
+    private static class InjectionPlan {
+        private final VarHandle[] handles;
+        private final Object[] values;
+        // whether the value is a LazyDependency that must be produced before injecting it
+        private final boolean[] deferred;
+
+        private InjectionPlan(VarHandle[] handles, Object[] values, boolean[] deferred) {
+            this.handles = handles;
+            this.values = values;
+            this.deferred = deferred;
+        }
+    }
+
+    private class LazyDependency implements Supplier<Object> {
+        private final Method method;
+        private final Callable<Object> producer;
+        private volatile boolean produced;
+        private Object value;
+
+        private LazyDependency(Method method, Callable<Object> producer) {
+            this.method = method;
+            this.producer = producer;
+        }
+
+        @Override
+        public Object get() {
+            if (produced) {
+                return value;
+            }
+            synchronized (this) {
+                if (!produced) {
+                    try {
+                        value = producer.call();
+                        produced = true;
+                        log.debug("Lazily produced {} for {}", value, method.getReturnType());
+                    } catch (Exception e) {
+                        // don't cache the failure, thus the producer gets called again on the next use
+                        log.error("Unable to access method {}! Retrying on next use", method, e);
+                    }
+                }
+                return value;
+            }
+        }
+    }
+}
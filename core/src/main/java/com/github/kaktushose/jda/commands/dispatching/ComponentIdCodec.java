@@ -0,0 +1,213 @@
+package com.github.kaktushose.jda.commands.dispatching;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Encodes and decodes the custom ids of components created by jda-commands. A custom id consists of a
+ * {@link #PREFIX prefix}, the key of the interaction, the snowflake id of the runtime and optionally some state, e.g.
+ * {@code ~BuW2xfPcL1Aqhd3yi} for a button without state. The key and the runtime id are encoded with the URL-safe
+ * base 64 alphabet using a fixed width, thus decoding them needs neither regex nor allocations. The remaining
+ * capacity of the 100 characters Discord allows can carry arbitrary state.
+ *
+ * <p>The interaction key is a hash of the fully qualified class name and the method name. Thus, it stays the same
+ * across restarts and doesn't collide for classes that share the same simple name.
+ *
+ * @author Kaktushose
+ * @version 4.0.0
+ * @since 4.0.0
+ */
+public final class ComponentIdCodec {
+
+    /**
+     * The first character of every custom id created by this codec.
+     */
+    public static final char PREFIX = '~';
+
+    /**
+     * The maximum length of a custom id allowed by Discord.
+     */
+    public static final int MAX_LENGTH = 100;
+
+    /**
+     * The length of a custom id without any state.
+     */
+    public static final int LENGTH = 18;
+
+    /**
+     * The maximum length of the state a custom id can carry.
+     */
+    public static final int MAX_STATE_LENGTH = MAX_LENGTH - LENGTH;
+
+    private static final char[] ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+    private static final byte[] LOOKUP = new byte[128];
+    private static final int KEY_OFFSET = 1;
+    private static final int KEY_LENGTH = 6;
+    private static final int RUNTIME_OFFSET = KEY_OFFSET + KEY_LENGTH;
+    private static final int RUNTIME_LENGTH = 11;
+
+    static {
+        Arrays.fill(LOOKUP, (byte) -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            LOOKUP[ALPHABET[i]] = (byte) i;
+        }
+    }
+
+    private ComponentIdCodec() {
+    }
+
+    /**
+     * Computes the key of an interaction.
+     *
+     * @param clazz  the class defining the interaction
+     * @param method the name of the interaction method
+     * @return the key of the interaction
+     */
+    public static int key(@NotNull Class<?> clazz, @NotNull String method) {
+        // FNV-1a over "className#method"
+        int hash = 0x811c9dc5;
+        String name = clazz.getName();
+        for (int i = 0; i < name.length(); i++) {
+            hash = (hash ^ name.charAt(i)) * 0x01000193;
+        }
+        hash = (hash ^ '#') * 0x01000193;
+        for (int i = 0; i < method.length(); i++) {
+            hash = (hash ^ method.charAt(i)) * 0x01000193;
+        }
+        return hash;
+    }
+
+    /**
+     * Encodes a custom id without state.
+     *
+     * @param key       the key of the interaction
+     * @param runtimeId the snowflake id of the runtime
+     * @return the encoded custom id
+     */
+    @NotNull
+    public static String encode(int key, long runtimeId) {
+        return new String(encode(key, runtimeId, LENGTH));
+    }
+
+    /**
+     * Encodes a custom id carrying state.
+     *
+     * @param key       the key of the interaction
+     * @param runtimeId the snowflake id of the runtime
+     * @param state     the state to carry, at most {@link #MAX_STATE_LENGTH} characters
+     * @return the encoded custom id
+     * @throws IllegalArgumentException if the state is too long
+     */
+    @NotNull
+    public static String encode(int key, long runtimeId, @NotNull String state) {
+        if (state.length() > MAX_STATE_LENGTH) {
+            throw new IllegalArgumentException(
+                    "State must not exceed " + MAX_STATE_LENGTH + " characters but has " + state.length()
+            );
+        }
+        char[] chars = encode(key, runtimeId, LENGTH + state.length());
+        state.getChars(0, state.length(), chars, LENGTH);
+        return new String(chars);
+    }
+
+    /**
+     * Whether the given custom id was created by this codec.
+     *
+     * @param id the custom id to check
+     * @return {@code true} if the custom id was created by this codec
+     */
+    public static boolean isValid(@NotNull CharSequence id) {
+        if (id.length() < LENGTH || id.length() > MAX_LENGTH || id.charAt(0) != PREFIX) {
+            return false;
+        }
+        for (int i = KEY_OFFSET; i < LENGTH; i++) {
+            char c = id.charAt(i);
+            if (c >= LOOKUP.length || LOOKUP[c] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decodes the key of the interaction. The custom id must be {@link #isValid(CharSequence) valid}.
+     *
+     * @param id the custom id to decode
+     * @return the key of the interaction
+     */
+    public static int decodeKey(@NotNull CharSequence id) {
+        return (int) decode(id, KEY_OFFSET, KEY_LENGTH);
+    }
+
+    /**
+     * Decodes the snowflake id of the runtime. The custom id must be {@link #isValid(CharSequence) valid}.
+     *
+     * @param id the custom id to decode
+     * @return the snowflake id of the runtime
+     */
+    public static long decodeRuntimeId(@NotNull CharSequence id) {
+        return decode(id, RUNTIME_OFFSET, RUNTIME_LENGTH);
+    }
+
+    /**
+     * Decodes the state. The custom id must be {@link #isValid(CharSequence) valid}.
+     *
+     * @param id the custom id to decode
+     * @return the state or an empty String if the custom id carries no state
+     */
+    @NotNull
+    public static String decodeState(@NotNull CharSequence id) {
+        return id.subSequence(LENGTH, id.length()).toString();
+    }
+
+    // variable length counterparts of write and decode, used for state values
+    static void append(StringBuilder builder, long value) {
+        int shift = 60;
+        while (shift > 0 && (value >>> shift) == 0) {
+            shift -= 6;
+        }
+        for (; shift >= 0; shift -= 6) {
+            builder.append(ALPHABET[(int) ((value >>> shift) & 63)]);
+        }
+    }
+
+    static long parse(CharSequence id, int start, int end) {
+        if (start == end || end - start > RUNTIME_LENGTH) {
+            throw new IllegalArgumentException("Invalid number length: " + (end - start));
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            char c = id.charAt(i);
+            if (c >= LOOKUP.length || LOOKUP[c] < 0) {
+                throw new IllegalArgumentException("Invalid character: " + c);
+            }
+            value = (value << 6) | LOOKUP[c];
+        }
+        return value;
+    }
+
+    private static char[] encode(int key, long runtimeId, int length) {
+        char[] chars = new char[length];
+        chars[0] = PREFIX;
+        write(chars, KEY_OFFSET, KEY_LENGTH, key & 0xFFFFFFFFL);
+        write(chars, RUNTIME_OFFSET, RUNTIME_LENGTH, runtimeId);
+        return chars;
+    }
+
+    private static void write(char[] chars, int offset, int length, long value) {
+        for (int i = offset + length - 1; i >= offset; i--) {
+            chars[i] = ALPHABET[(int) (value & 63)];
+            value >>>= 6;
+        }
+    }
+
+    private static long decode(CharSequence id, int offset, int length) {
+        long value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            value = (value << 6) | LOOKUP[id.charAt(i)];
+        }
+        return value;
+    }
+}
@@ -0,0 +1,208 @@
+package com.github.kaktushose.jda.commands.dispatching;
+
+import com.github.kaktushose.jda.commands.annotations.interactions.State;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * Encodes the {@link State} fields of an interaction instance into the state part of a custom id and restores them.
+ * The values are separated by a dot and encoded as follows:
+ * <ul>
+ *     <li>{@code null} as {@code !}</li>
+ *     <li>{@code boolean} as {@code 1} or {@code 0}</li>
+ *     <li>integral numbers zigzag encoded, chars by their unsigned value, enums by their ordinal and floating point
+ *     numbers by their raw bits, each with the URL-safe base 64 alphabet without leading zeros</li>
+ *     <li>Strings as is, with {@code %}, {@code .} and {@code !} being percent encoded</li>
+ * </ul>
+ *
+ * @author Kaktushose
+ * @version 4.0.0
+ * @see ComponentIdCodec
+ * @since 4.0.0
+ */
+public final class ComponentStateCodec {
+
+    private static final char SEPARATOR = '.';
+    private static final char NULL = '!';
+    private static final Set<Class<?>> SUPPORTED_TYPES = new HashSet<>(Arrays.asList(
+            boolean.class, Boolean.class, byte.class, Byte.class, short.class, Short.class, int.class, Integer.class,
+            long.class, Long.class, char.class, Character.class, float.class, Float.class, double.class, Double.class,
+            String.class
+    ));
+
+    private ComponentStateCodec() {
+    }
+
+    /**
+     * Gets all fields of the given class and its superclasses annotated with {@link State}, sorted by name and made
+     * accessible. Fields with the same name are sorted by the name of their declaring class.
+     *
+     * @param clazz the class to get the fields of
+     * @return a possibly-empty list of all state fields
+     * @throws IllegalArgumentException if a state field is static, final or of an unsupported type
+     */
+    @NotNull
+    public static List<Field> getStateFields(@NotNull Class<?> clazz) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!field.isAnnotationPresent(State.class)) {
+                    continue;
+                }
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+                    throw new IllegalArgumentException(String.format("State field %s must not be static or final!", field.getName()));
+                }
+                if (!SUPPORTED_TYPES.contains(field.getType()) && !field.getType().isEnum()) {
+                    throw new IllegalArgumentException(String.format("State field %s has unsupported type %s!",
+                            field.getName(), field.getType().getName()));
+                }
+                field.setAccessible(true);
+                fields.add(field);
+            }
+        }
+        fields.sort(Comparator.comparing(Field::getName).thenComparing(field -> field.getDeclaringClass().getName()));
+        return fields;
+    }
+
+    /**
+     * Encodes the values of the given fields.
+     *
+     * @param fields   the fields to encode, as returned by {@link #getStateFields(Class)}
+     * @param instance the instance to read the values from
+     * @return the encoded state
+     */
+    @NotNull
+    public static String encode(@NotNull List<Field> fields, @NotNull Object instance) {
+        StringBuilder builder = new StringBuilder();
+        try {
+            for (int i = 0; i < fields.size(); i++) {
+                if (i > 0) {
+                    builder.append(SEPARATOR);
+                }
+                append(builder, fields.get(i).get(instance));
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Unable to read state field!", e);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Decodes the given state and assigns the values to the given fields.
+     *
+     * @param state    the encoded state
+     * @param fields   the fields to assign, as returned by {@link #getStateFields(Class)}
+     * @param instance the instance to assign the values to
+     * @throws IllegalArgumentException if the state doesn't match the fields or contains invalid values
+     */
+    public static void decode(@NotNull String state, @NotNull List<Field> fields, @NotNull Object instance) {
+        if (fields.isEmpty()) {
+            return;
+        }
+        int start = 0;
+        try {
+            for (int i = 0; i < fields.size(); i++) {
+                if (start > state.length()) {
+                    throw new IllegalArgumentException("State has less values than fields!");
+                }
+                int end = state.indexOf(SEPARATOR, start);
+                if (end < 0) {
+                    end = state.length();
+                }
+                if (i == fields.size() - 1 && end != state.length()) {
+                    throw new IllegalArgumentException("State has more values than fields!");
+                }
+                Field field = fields.get(i);
+                field.set(instance, parse(state, start, end, field.getType()));
+                start = end + 1;
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Unable to write state field!", e);
+        }
+    }
+
+    private static void append(StringBuilder builder, Object value) {
+        if (value == null) {
+            builder.append(NULL);
+        } else if (value instanceof Boolean) {
+            builder.append((Boolean) value ? '1' : '0');
+        } else if (value instanceof Float) {
+            ComponentIdCodec.append(builder, Float.floatToRawIntBits((Float) value) & 0xFFFFFFFFL);
+        } else if (value instanceof Double) {
+            ComponentIdCodec.append(builder, Double.doubleToRawLongBits((Double) value));
+        } else if (value instanceof Number) {
+            long number = ((Number) value).longValue();
+            ComponentIdCodec.append(builder, (number << 1) ^ (number >> 63));
+        } else if (value instanceof Character) {
+            ComponentIdCodec.append(builder, (Character) value);
+        } else if (value instanceof Enum) {
+            ComponentIdCodec.append(builder, ((Enum<?>) value).ordinal());
+        } else {
+            String string = (String) value;
+            for (int i = 0; i < string.length(); i++) {
+                char c = string.charAt(i);
+                if (c == '%' || c == SEPARATOR || c == NULL) {
+                    builder.append('%').append(Character.forDigit(c >> 4, 16)).append(Character.forDigit(c & 15, 16));
+                } else {
+                    builder.append(c);
+                }
+            }
+        }
+    }
+
+    private static Object parse(String state, int start, int end, Class<?> type) {
+        if (end - start == 1 && state.charAt(start) == NULL) {
+            if (type.isPrimitive()) {
+                throw new IllegalArgumentException("Primitive state field cannot be null!");
+            }
+            return null;
+        }
+        if (type == String.class) {
+            StringBuilder builder = new StringBuilder(end - start);
+            for (int i = start; i < end; i++) {
+                char c = state.charAt(i);
+                if (c == '%' && i + 2 < end) {
+                    builder.append((char) Integer.parseInt(state.substring(i + 1, i + 3), 16));
+                    i += 2;
+                } else {
+                    builder.append(c);
+                }
+            }
+            return builder.toString();
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return end - start == 1 && state.charAt(start) == '1';
+        }
+        long value = ComponentIdCodec.parse(state, start, end);
+        if (type == float.class || type == Float.class) {
+            return Float.intBitsToFloat((int) value);
+        }
+        if (type == double.class || type == Double.class) {
+            return Double.longBitsToDouble(value);
+        }
+        if (type == char.class || type == Character.class) {
+            return (char) value;
+        }
+        if (type.isEnum()) {
+            Object[] constants = type.getEnumConstants();
+            if (value < 0 || value >= constants.length) {
+                throw new IllegalArgumentException(String.format("Invalid ordinal %d of enum %s!", value, type.getName()));
+            }
+            return constants[(int) value];
+        }
+        long number = (value >>> 1) ^ -(value & 1);
+        if (type == byte.class || type == Byte.class) {
+            return (byte) number;
+        }
+        if (type == short.class || type == Short.class) {
+            return (short) number;
+        }
+        if (type == int.class || type == Integer.class) {
+            return (int) number;
+        }
+        return number;
+    }
+}
@@ -35,7 +35,10 @@ public class DispatcherSupervisor {
     public DispatcherSupervisor(JDACommands jdaCommands) {
         this.jdaCommands = jdaCommands;
         dispatchers = new HashMap<>();
-        runtimeSupervisor = new RuntimeSupervisor(jdaCommands.getDependencyInjector());
+        runtimeSupervisor = new RuntimeSupervisor(
+                jdaCommands.getDependencyInjector(),
+                jdaCommands.getInteractionRegistry()
+        );
         register(CommandContext.class, new CommandDispatcher(this, runtimeSupervisor));
         register(ButtonContext.class, new ButtonDispatcher(this, runtimeSupervisor));
     }
@@ -88,6 +91,15 @@ public class DispatcherSupervisor {
         }
     }
 
+    /**
+     * Gets the {@link RuntimeSupervisor} instance.
+     *
+     * @return the {@link RuntimeSupervisor} instance
+     */
+    public RuntimeSupervisor getRuntimeSupervisor() {
+        return runtimeSupervisor;
+    }
+
     /**
      * Gets the {@link JDACommands} instance.
      *
@@ -1,5 +1,12 @@
 package com.github.kaktushose.jda.commands.dispatching;
 
+import com.github.kaktushose.jda.commands.JDACommands;
+import com.github.kaktushose.jda.commands.components.Buttons;
+import com.github.kaktushose.jda.commands.components.Component;
+import com.github.kaktushose.jda.commands.dispatching.RuntimeSupervisor.InteractionRuntime;
+import com.github.kaktushose.jda.commands.dispatching.reply.ReplyContext;
+import com.github.kaktushose.jda.commands.reflect.InteractionRegistry;
+import com.github.kaktushose.jda.commands.reflect.interactions.ButtonDefinition;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.*;
 import net.dv8tion.jda.api.entities.channel.ChannelType;
@@ -13,9 +20,13 @@ import net.dv8tion.jda.api.events.Event;
 import net.dv8tion.jda.api.events.interaction.GenericInteractionCreateEvent;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
 import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
+import net.dv8tion.jda.api.interactions.components.ActionRow;
+import net.dv8tion.jda.api.interactions.components.ItemComponent;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -325,4 +336,44 @@ public class GenericEvent extends Event {
         values.clear();
         return this;
     }
+
+    /**
+     * Adds the buttons of the given {@link Component Components} to the reply as a new {@link ActionRow}. Buttons that
+     * are not defined by the given controller get ignored. If any of the buttons is stateful, the
+     * {@link InteractionRuntime} gets registered, since the buttons refer to it.
+     *
+     * @param jdaCommands  the corresponding {@link JDACommands} instance
+     * @param controller   the class defining the buttons
+     * @param runtime      the {@link InteractionRuntime} the buttons refer to
+     * @param replyContext the {@link ReplyContext} to add the buttons to
+     * @param components   the {@link Component Components} to add
+     */
+    protected void addComponents(@NotNull JDACommands jdaCommands, @NotNull Class<?> controller,
+                                 @NotNull InteractionRuntime runtime, @NotNull ReplyContext replyContext,
+                                 @NotNull Component... components) {
+        InteractionRegistry registry = jdaCommands.getInteractionRegistry();
+        List<ItemComponent> items = new ArrayList<>();
+        boolean stateful = false;
+        for (Component component : components) {
+            if (component instanceof Buttons) {
+                Buttons buttons = (Buttons) component;
+                for (Buttons.ButtonContainer button : buttons.getButtons()) {
+                    Optional<ButtonDefinition> definition = registry.getButton(controller, button.getId());
+                    if (definition.isEmpty()) {
+                        continue;
+                    }
+                    stateful |= !definition.get().isStateless();
+                    items.add(definition.get().toButton().withDisabled(!button.isEnabled()).withId(definition.get().getRuntimeId(runtime)));
+                }
+            }
+        }
+
+        if (stateful) {
+            // the components refer to the runtime, thus it must outlive this interaction execution
+            jdaCommands.getRuntimeSupervisor().register(runtime);
+        }
+        if (items.size() > 0) {
+            replyContext.getBuilder().addComponents(ActionRow.of(items));
+        }
+    }
 }
@@ -0,0 +1,1019 @@
+package com.github.kaktushose.jda.commands.dispatching;
+
+import com.github.kaktushose.jda.commands.annotations.Inject;
+import com.github.kaktushose.jda.commands.annotations.interactions.Interaction;
+import com.github.kaktushose.jda.commands.data.ConcurrentLongMap;
+import com.github.kaktushose.jda.commands.data.RuntimeStore;
+import com.github.kaktushose.jda.commands.data.TimingWheel;
+import com.github.kaktushose.jda.commands.dependency.DependencyInjector;
+import com.github.kaktushose.jda.commands.reflect.InteractionRegistry;
+import com.github.kaktushose.jda.commands.reflect.interactions.GenericInteraction;
+import com.google.gson.ExclusionStrategy;
+import com.google.gson.FieldAttributes;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.events.interaction.command.GenericCommandInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.GenericComponentInteractionCreateEvent;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+/**
+ * Supervisor that creates and stores {@link InteractionRuntime InteractionRuntimes}. This supervisor will create a
+ * new {@link InteractionRuntime} for every command execution, but only stores it once a component referring to it
+ * gets attached to a message. Stored runtimes have the TTL defined by
+ * {@link com.github.kaktushose.jda.commands.annotations.interactions.Interaction#timeout() Interaction#timeout()}.
+ * Expired runtimes are removed in bulk by a {@link TimingWheel}.
+ *
+ * <p>The amount of stored runtimes can be bounded by {@link #setMaxRuntimes(int)} and {@link #setMaxWeight(long)},
+ * where the weight of a runtime is determined by a user supplied {@link #setWeigher(ToLongFunction) weigher}. If a
+ * bound is exceeded, runtimes get evicted in approximate LRU order: registered runtimes are kept in a lock-free access
+ * queue and runtimes that have been accessed since they were last visited get a second chance before being evicted.
+ * Furthermore, if a {@link #setHeapThreshold(double) heap threshold} is set, half of all runtimes gets evicted once
+ * the heap usage after a garbage collection exceeds it. Evicted runtimes are treated like expired runtimes.
+ *
+ * <p>Depending on the {@link Interaction.InstanceScope InstanceScope} of the interaction class, instances are either
+ * created for every execution, once per guild or only once at all. Guild scoped instances are held in a bounded
+ * cache per interaction class, see {@link #setMaxGuildInstances(int)}.
+ *
+ * <p>Optionally, a {@link RuntimeStore} can be set by calling {@link #setRuntimeStore(RuntimeStore)}. Registered
+ * runtimes will then be written to the store on registration and after every dispatch, so that evicted runtimes can
+ * be rehydrated on a cache miss, even after a restart or a crash. Thus, eviction itself never has to serialize
+ * anything. Writes are done by a background thread, which coalesces multiple changes of the same runtime into a
+ * single write. The state of singleton and guild scoped instances is written once per scope instead of once per
+ * runtime. Only non-transient fields that aren't annotated with {@link Inject} are persisted, injected fields get
+ * injected again on rehydration. Instances whose state contains reference cycles can't be persisted. Rehydration only
+ * accepts classes of controllers registered in the {@link InteractionRegistry} and respects the
+ * {@link Interaction.InstanceScope InstanceScope}, i.e. an existing singleton or guild instance will be reused.
+ *
+ * @author Kaktushose
+ * @version 4.0.0
+ * @since 4.0.0
+ */
+public class RuntimeSupervisor {
+
+    private static final Logger log = LoggerFactory.getLogger(RuntimeSupervisor.class);
+    private static final int MAX_STATE_DEPTH = 128;
+    private static final Gson gson = new GsonBuilder().setExclusionStrategies(new ExclusionStrategy() {
+        @Override
+        public boolean shouldSkipField(FieldAttributes field) {
+            return field.getAnnotation(Inject.class) != null;
+        }
+
+        @Override
+        public boolean shouldSkipClass(Class<?> clazz) {
+            return false;
+        }
+    }).create();
+    private static final ClassValue<List<Field>> persistedFields = new ClassValue<>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) ||
+                            field.getType().isPrimitive() || field.isAnnotationPresent(Inject.class)) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+            return fields;
+        }
+    };
+    // memory pools are shared by the whole JVM, thus remember the thresholds set by any supervisor and register a
+    // single listener serving all supervisors with a heap threshold
+    private static final Map<String, Long> configuredThresholds = new ConcurrentHashMap<>();
+    private static final Set<RuntimeSupervisor> heapSupervisors = ConcurrentHashMap.newKeySet();
+    private static final AtomicBoolean heapListenerRegistered = new AtomicBoolean();
+    private final ConcurrentLongMap<InteractionRuntime> runtimes;
+    private final Queue<InteractionRuntime> accessQueue;
+    private final AtomicInteger queued;
+    private final AtomicBoolean purging;
+    private final AtomicLong totalWeight;
+    private final Map<Class<?>, LazyHolder> singletons;
+    private final Map<Class<?>, Map<Long, Object>> guildInstances;
+    private final TimingWheel<Long> timingWheel;
+    private final DependencyInjector injector;
+    private final InteractionRegistry interactionRegistry;
+    private final Map<Long, InteractionRuntime> dirtyRuntimes;
+    private final Map<String, InteractionRuntime> dirtyInstances;
+    private final AtomicBoolean flushScheduled;
+    private final ExecutorService writer;
+    private final Object writeLock;
+    private volatile ToLongFunction<Object> weigher;
+    private volatile int maxRuntimes;
+    private volatile long maxWeight;
+    private volatile double heapThreshold;
+    private volatile int maxGuildInstances;
+    private volatile RuntimeStore store;
+
+    /**
+     * Constructs a new RuntimeSupervisor that can't rehydrate runtimes from a {@link RuntimeStore}.
+     *
+     * @param injector the {@link DependencyInjector} to inject interaction instances with
+     */
+    public RuntimeSupervisor(DependencyInjector injector) {
+        this(injector, null);
+    }
+
+    /**
+     * Constructs a new RuntimeSupervisor.
+     *
+     * @param injector            the {@link DependencyInjector} to inject interaction instances with
+     * @param interactionRegistry the {@link InteractionRegistry} holding the controllers that may be rehydrated
+     */
+    public RuntimeSupervisor(DependencyInjector injector, InteractionRegistry interactionRegistry) {
+        this.injector = injector;
+        this.interactionRegistry = interactionRegistry;
+        dirtyRuntimes = new ConcurrentHashMap<>();
+        dirtyInstances = new ConcurrentHashMap<>();
+        flushScheduled = new AtomicBoolean();
+        writeLock = new Object();
+        writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "JDA-Commands Runtime Writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        runtimes = new ConcurrentLongMap<>();
+        accessQueue = new ConcurrentLinkedQueue<>();
+        queued = new AtomicInteger();
+        purging = new AtomicBoolean();
+        totalWeight = new AtomicLong();
+        weigher = instance -> 1;
+        singletons = new ConcurrentHashMap<>();
+        guildInstances = new ConcurrentHashMap<>();
+        maxGuildInstances = 1000;
+        timingWheel = new TimingWheel<>(1, TimeUnit.SECONDS, 1024, this::remove);
+        maxRuntimes = Integer.MAX_VALUE;
+        maxWeight = Long.MAX_VALUE;
+    }
+
+    /**
+     * Creates a new {@link InteractionRuntime}. The instance of the interaction class is either created and injected
+     * or reused, depending on its {@link Interaction.InstanceScope InstanceScope}. The {@link InteractionRuntime}
+     * won't be stored until
+     * {@link #register(InteractionRuntime)} gets called, which happens as soon as a component referring to the
+     * runtime gets attached to a message.
+     *
+     * @param event       the {@link GenericCommandInteractionEvent} to create the {@link InteractionRuntime} for
+     * @param interaction the {@link GenericInteraction} to create the {@link InteractionRuntime} from
+     * @return a new {@link InteractionRuntime} with the TTL defined by the {@link GenericInteraction}
+     * @throws InvocationTargetException if the underlying constructor throws an exception
+     * @throws InstantiationException    if the class that declares the underlying constructor represents an abstract class
+     * @throws IllegalAccessException    if this Constructor object is enforcing Java language access control and
+     *                                   the underlying constructor is inaccessible
+     */
+    public InteractionRuntime newRuntime(GenericCommandInteractionEvent event, GenericInteraction interaction)
+            throws InvocationTargetException, InstantiationException, IllegalAccessException {
+
+        Class<?> clazz = interaction.getMethod().getDeclaringClass();
+        Guild guild = event.getGuild();
+        Object instance;
+        switch (interaction.getScope()) {
+            case SINGLETON:
+                instance = getSingleton(clazz, () -> newInstance(interaction));
+                break;
+            case GUILD:
+                instance = guild == null
+                        ? newInstance(interaction)
+                        : getGuildInstance(clazz, guild.getIdLong(), () -> newInstance(interaction));
+                break;
+            default:
+                instance = newInstance(interaction);
+        }
+
+        InteractionRuntime runtime = new InteractionRuntime(event.getId(), instance, interaction.getRuntimeTimeout());
+        runtime.guildId = guild == null ? 0 : guild.getIdLong();
+        return runtime;
+    }
+
+    /**
+     * Creates a new {@link InteractionRuntime} for a
+     * {@link com.github.kaktushose.jda.commands.annotations.interactions.Button#stateless() stateless} interaction.
+     * Regardless of the {@link Interaction.InstanceScope InstanceScope}, a new instance gets created and injected,
+     * because the state of the interaction will be written to it. The {@link InteractionRuntime} won't be stored.
+     *
+     * @param event       the {@link GenericComponentInteractionCreateEvent} to create the {@link InteractionRuntime} for
+     * @param interaction the {@link GenericInteraction} to create the {@link InteractionRuntime} from
+     * @return a new {@link InteractionRuntime}
+     * @throws InvocationTargetException if the underlying constructor throws an exception
+     * @throws InstantiationException    if the class that declares the underlying constructor represents an abstract class
+     * @throws IllegalAccessException    if this Constructor object is enforcing Java language access control and
+     *                                   the underlying constructor is inaccessible
+     */
+    public InteractionRuntime newStatelessRuntime(GenericComponentInteractionCreateEvent event, GenericInteraction interaction)
+            throws InvocationTargetException, InstantiationException, IllegalAccessException {
+        return new InteractionRuntime(event.getId(), newInstance(interaction), interaction.getRuntimeTimeout());
+    }
+
+    /**
+     * Gets the maximum amount of guild scoped instances to cache per interaction class.
+     *
+     * @return the maximum amount of guild scoped instances per interaction class
+     */
+    public int getMaxGuildInstances() {
+        return maxGuildInstances;
+    }
+
+    /**
+     * Sets the maximum amount of guild scoped instances to cache per interaction class. If this amount gets exceeded,
+     * the instance of the least recently used guild gets dropped. Default value is {@code 1000}.
+     *
+     * @param maxGuildInstances the maximum amount of guild scoped instances per interaction class
+     */
+    public void setMaxGuildInstances(int maxGuildInstances) {
+        if (maxGuildInstances < 1) {
+            throw new IllegalArgumentException("Maximum amount of guild instances must be positive!");
+        }
+        this.maxGuildInstances = maxGuildInstances;
+    }
+
+    private Object newInstance(GenericInteraction interaction)
+            throws InvocationTargetException, InstantiationException, IllegalAccessException {
+        Object instance = interaction.newInstance();
+        injector.inject(instance);
+        return instance;
+    }
+
+    private Object getSingleton(Class<?> clazz, InstanceFactory factory)
+            throws InvocationTargetException, InstantiationException, IllegalAccessException {
+        // each class has its own lock, thus a slow constructor only blocks interactions of the same class
+        return singletons.computeIfAbsent(clazz, key -> new LazyHolder()).get(clazz, factory);
+    }
+
+    private Object getGuildInstance(Class<?> clazz, long guildId, InstanceFactory factory)
+            throws InvocationTargetException, InstantiationException, IllegalAccessException {
+        Map<Long, Object> cache = guildInstances.computeIfAbsent(clazz, key ->
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<Long, Object> eldest) {
+                        return size() > maxGuildInstances;
+                    }
+                }
+        );
+        Object instance;
+        synchronized (cache) {
+            instance = cache.get(guildId);
+        }
+        if (instance != null) {
+            return instance;
+        }
+        // construct outside the lock, thus a slow constructor doesn't block the lookups of other guilds
+        Object created = factory.create();
+        synchronized (cache) {
+            instance = cache.putIfAbsent(guildId, created);
+        }
+        return instance == null ? created : instance;
+    }
+
+    /**
+     * Stores an {@link InteractionRuntime} so that it can be retrieved by
+     * {@link #getRuntime(GenericComponentInteractionCreateEvent)} until it expires. Calling this method multiple times
+     * for the same {@link InteractionRuntime} has no effect.
+     *
+     * @param runtime the {@link InteractionRuntime} to store
+     */
+    public void register(InteractionRuntime runtime) {
+        register(runtime, true);
+    }
+
+    private void register(InteractionRuntime runtime, boolean persist) {
+        if (runtime.registered) {
+            return;
+        }
+        synchronized (runtime) {
+            if (runtime.registered) {
+                return;
+            }
+            runtime.registered = true;
+        }
+        long id = runtime.getInstanceIdLong();
+        runtime.expiration = System.currentTimeMillis() + runtime.getTimeout();
+        runtime.weight = weigher.applyAsLong(runtime.getInstance());
+        InteractionRuntime previous = runtimes.put(id, runtime);
+        if (previous != null) {
+            totalWeight.addAndGet(-previous.weight);
+        }
+        totalWeight.addAndGet(runtime.weight);
+        enqueue(runtime);
+        evictExceeding();
+        timingWheel.schedule(id, runtime.getTimeout(), TimeUnit.MILLISECONDS);
+        if (persist && store != null) {
+            markDirty(runtime, true);
+        }
+        log.debug("Registered runtime {}", runtime.getInstanceId());
+    }
+
+    /**
+     * Gets an {@link Optional} holding the {@link InteractionRuntime}. Returns an empty {@link Optional} if no
+     * {@link InteractionRuntime} has been registered yet by calling {@link #register(InteractionRuntime)}, if the
+     * underlying component wasn't created by jda-commands or if the {@link InteractionRuntime} expired. If the
+     * {@link InteractionRuntime} isn't stored in memory but in the {@link RuntimeStore}, it will be rehydrated.
+     *
+     * @param event the {@link GenericComponentInteractionCreateEvent} to get the {@link InteractionRuntime} for
+     * @return an {@link Optional} holding the {@link InteractionRuntime}
+     */
+    public Optional<InteractionRuntime> getRuntime(GenericComponentInteractionCreateEvent event) {
+        String componentId = event.getComponentId();
+        if (!ComponentIdCodec.isValid(componentId)) {
+            return Optional.empty();
+        }
+        long id = ComponentIdCodec.decodeRuntimeId(componentId);
+        InteractionRuntime runtime = runtimes.get(id);
+        if (runtime == null) {
+            return rehydrate(id);
+        }
+        // only write if necessary to avoid contention on hot runtimes
+        if (!runtime.referenced) {
+            runtime.referenced = true;
+        }
+        return Optional.of(runtime);
+    }
+
+    /**
+     * Schedules the current state of a registered {@link InteractionRuntime} to be written to the
+     * {@link RuntimeStore}. This gets called after every dispatch that used the {@link InteractionRuntime}, thus the
+     * {@link RuntimeStore} always holds the latest state. Does nothing if no {@link RuntimeStore} is set or if the
+     * {@link InteractionRuntime} isn't registered or already expired.
+     *
+     * @param runtime the {@link InteractionRuntime} to persist
+     * @see #flush()
+     */
+    public void update(InteractionRuntime runtime) {
+        if (store == null || !runtime.registered || runtime.expiration <= System.currentTimeMillis()) {
+            return;
+        }
+        markDirty(runtime, false);
+    }
+
+    /**
+     * Writes all pending changes to the {@link RuntimeStore} on the calling thread. Changes are written in the
+     * background anyway, thus calling this method is only needed if the {@link RuntimeStore} must be up-to-date at a
+     * certain point.
+     */
+    public void flush() {
+        flushScheduled.set(false);
+        synchronized (writeLock) {
+            RuntimeStore store = this.store;
+            for (Long id : dirtyRuntimes.keySet()) {
+                InteractionRuntime runtime = dirtyRuntimes.remove(id);
+                if (runtime != null && store != null) {
+                    persistRuntime(store, runtime);
+                }
+            }
+            for (String key : dirtyInstances.keySet()) {
+                InteractionRuntime runtime = dirtyInstances.remove(key);
+                if (runtime != null && store != null) {
+                    persistInstance(store, key, runtime);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets an {@link Optional} holding the {@link RuntimeStore} used to persist runtimes.
+     *
+     * @return an {@link Optional} holding the {@link RuntimeStore}
+     */
+    public Optional<RuntimeStore> getRuntimeStore() {
+        return Optional.ofNullable(store);
+    }
+
+    /**
+     * Sets the {@link RuntimeStore} used to persist runtimes. Default value is {@code null}, thus runtimes only live
+     * in memory.
+     *
+     * @param store the {@link RuntimeStore} to use or {@code null} to disable persistence
+     * @see com.github.kaktushose.jda.commands.data.MappedRuntimeStore MappedRuntimeStore
+     */
+    public void setRuntimeStore(RuntimeStore store) {
+        this.store = store;
+    }
+
+    /**
+     * Gets the amount of currently stored {@link InteractionRuntime InteractionRuntimes}.
+     *
+     * @return the amount of stored {@link InteractionRuntime InteractionRuntimes}
+     */
+    public int size() {
+        return runtimes.size();
+    }
+
+    /**
+     * Gets the total weight of all stored {@link InteractionRuntime InteractionRuntimes} as determined by the
+     * {@link #setWeigher(ToLongFunction) weigher}.
+     *
+     * @return the total weight of all stored {@link InteractionRuntime InteractionRuntimes}
+     */
+    public long getTotalWeight() {
+        return totalWeight.get();
+    }
+
+    /**
+     * Sets the weigher used to determine the weight of an {@link InteractionRuntime}, e.g. the approximate amount of
+     * bytes the interaction instance retains. The weigher gets called once with the interaction instance when the
+     * {@link InteractionRuntime} gets registered. Default weigher assigns a weight of {@code 1} to every
+     * {@link InteractionRuntime}.
+     *
+     * @param weigher the weigher to use
+     * @see #setMaxWeight(long)
+     */
+    public void setWeigher(@NotNull ToLongFunction<Object> weigher) {
+        this.weigher = weigher;
+    }
+
+    /**
+     * Gets the maximum amount of {@link InteractionRuntime InteractionRuntimes} to store.
+     *
+     * @return the maximum amount of {@link InteractionRuntime InteractionRuntimes}
+     */
+    public int getMaxRuntimes() {
+        return maxRuntimes;
+    }
+
+    /**
+     * Sets the maximum amount of {@link InteractionRuntime InteractionRuntimes} to store. If this amount gets
+     * exceeded, the least recently used {@link InteractionRuntime InteractionRuntimes} will be evicted. Default value
+     * is unbounded.
+     *
+     * @param maxRuntimes the maximum amount of {@link InteractionRuntime InteractionRuntimes}
+     */
+    public void setMaxRuntimes(int maxRuntimes) {
+        if (maxRuntimes < 1) {
+            throw new IllegalArgumentException("Maximum amount of runtimes must be positive!");
+        }
+        this.maxRuntimes = maxRuntimes;
+        evictExceeding();
+    }
+
+    /**
+     * Gets the maximum total weight of all stored {@link InteractionRuntime InteractionRuntimes}.
+     *
+     * @return the maximum total weight
+     * @see #setWeigher(ToLongFunction)
+     */
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * Sets the maximum total weight of all stored {@link InteractionRuntime InteractionRuntimes}. If this weight gets
+     * exceeded, the least recently used {@link InteractionRuntime InteractionRuntimes} will be evicted. Default value
+     * is unbounded.
+     *
+     * @param maxWeight the maximum total weight
+     * @see #setWeigher(ToLongFunction)
+     */
+    public void setMaxWeight(long maxWeight) {
+        if (maxWeight < 1) {
+            throw new IllegalArgumentException("Maximum weight must be positive!");
+        }
+        this.maxWeight = maxWeight;
+        evictExceeding();
+    }
+
+    /**
+     * Gets the fraction of the maximum heap size at which runtimes get evicted early.
+     *
+     * @return the heap threshold or {@code 0} if disabled
+     */
+    public double getHeapThreshold() {
+        return heapThreshold;
+    }
+
+    /**
+     * Sets the fraction of the maximum heap size at which runtimes get evicted early. If the heap usage after a
+     * garbage collection exceeds this threshold, half of all runtimes gets evicted. This will only set the collection
+     * usage threshold of heap memory pools that don't have a threshold set yet or that have been configured by a
+     * RuntimeSupervisor before, other pools are ignored. Since memory pools are shared by the whole JVM, the threshold
+     * set last applies to all RuntimeSupervisors. Use {@code 0} to disable heap pressure eviction. Default value is
+     * {@code 0}, thus heap pressure eviction is disabled.
+     *
+     * @param heapThreshold the fraction of the maximum heap size, must be between {@code 0} and {@code 1}
+     */
+    public void setHeapThreshold(double heapThreshold) {
+        if (heapThreshold < 0 || heapThreshold > 1) {
+            throw new IllegalArgumentException("Heap threshold must be between 0 and 1!");
+        }
+        this.heapThreshold = heapThreshold;
+        if (heapThreshold == 0) {
+            heapSupervisors.remove(this);
+            return;
+        }
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() != MemoryType.HEAP || !pool.isCollectionUsageThresholdSupported()) {
+                continue;
+            }
+            long max = pool.getUsage().getMax();
+            if (max <= 0) {
+                continue;
+            }
+            // don't override thresholds set by someone else
+            long current = pool.getCollectionUsageThreshold();
+            if (current > 0 && current != configuredThresholds.getOrDefault(pool.getName(), 0L)) {
+                continue;
+            }
+            long threshold = (long) (max * heapThreshold);
+            pool.setCollectionUsageThreshold(threshold);
+            configuredThresholds.put(pool.getName(), threshold);
+            log.debug("Set collection usage threshold of memory pool {} to {}", pool.getName(), heapThreshold);
+        }
+        heapSupervisors.add(this);
+        if (heapListenerRegistered.compareAndSet(false, true)) {
+            ((NotificationEmitter) ManagementFactory.getMemoryMXBean())
+                    .addNotificationListener(RuntimeSupervisor::onHeapNotification, null, null);
+        }
+    }
+
+    /**
+     * Evicts the given fraction of all {@link InteractionRuntime InteractionRuntimes}, starting with the least recently
+     * used ones. Evicted runtimes don't get serialized, since the {@link RuntimeStore} already holds their latest
+     * state.
+     *
+     * @param fraction the fraction of runtimes to evict, must be between {@code 0} and {@code 1}
+     * @return the amount of evicted runtimes
+     */
+    public int evict(double fraction) {
+        int amount = (int) Math.ceil(runtimes.size() * fraction);
+        int evicted = 0;
+        while (evicted < amount) {
+            InteractionRuntime runtime = nextVictim();
+            if (runtime == null) {
+                break;
+            }
+            if (discard(runtime)) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Stops expiring runtimes and heap pressure eviction. If a {@link RuntimeStore} is set, the state of
+     * all stored runtimes gets persisted and the {@link RuntimeStore} gets closed.
+     */
+    public void shutdown() {
+        timingWheel.shutdown();
+        writer.shutdown();
+        try {
+            writer.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        RuntimeStore store = this.store;
+        if (store != null) {
+            runtimes.forEachValue(runtime -> addDirty(runtime, true));
+            flush();
+            store.close();
+        }
+        heapSupervisors.remove(this);
+    }
+
+    private void remove(long id) {
+        dirtyRuntimes.remove(id);
+        InteractionRuntime runtime = runtimes.remove(id);
+        if (runtime != null) {
+            totalWeight.addAndGet(-runtime.weight);
+        }
+        RuntimeStore store = this.store;
+        if (store != null) {
+            store.remove(Long.toUnsignedString(id));
+        }
+    }
+
+    private boolean discard(InteractionRuntime runtime) {
+        if (!runtimes.remove(runtime.getInstanceIdLong(), runtime)) {
+            return false;
+        }
+        totalWeight.addAndGet(-runtime.weight);
+        return true;
+    }
+
+    private void enqueue(InteractionRuntime runtime) {
+        accessQueue.offer(runtime);
+        // expired runtimes stay in the queue until they are polled, thus purge them if they pile up
+        if (queued.incrementAndGet() > 2 * runtimes.size() + 64 && purging.compareAndSet(false, true)) {
+            try {
+                accessQueue.removeIf(queuedRuntime -> runtimes.get(queuedRuntime.getInstanceIdLong()) != queuedRuntime);
+                queued.set(accessQueue.size());
+            } finally {
+                purging.set(false);
+            }
+        }
+    }
+
+    // CLOCK: runtimes that have been accessed since they were last visited get requeued once
+    private InteractionRuntime nextVictim() {
+        for (int i = 0, limit = 2 * queued.get() + 1; i < limit; i++) {
+            InteractionRuntime runtime = accessQueue.poll();
+            if (runtime == null) {
+                return null;
+            }
+            queued.decrementAndGet();
+            if (runtimes.get(runtime.getInstanceIdLong()) != runtime) {
+                continue;
+            }
+            if (runtime.referenced) {
+                runtime.referenced = false;
+                accessQueue.offer(runtime);
+                queued.incrementAndGet();
+                continue;
+            }
+            return runtime;
+        }
+        return null;
+    }
+
+    private void evictExceeding() {
+        while (runtimes.size() > maxRuntimes || totalWeight.get() > maxWeight) {
+            InteractionRuntime runtime = nextVictim();
+            if (runtime == null) {
+                return;
+            }
+            if (discard(runtime)) {
+                log.debug("Evicted runtime {}", runtime.getInstanceId());
+            }
+        }
+    }
+
+    // coalesces the changes of a runtime until the writer gets to them
+    private void markDirty(InteractionRuntime runtime, boolean registered) {
+        addDirty(runtime, registered);
+        if (flushScheduled.compareAndSet(false, true)) {
+            try {
+                writer.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                flushScheduled.set(false);
+            }
+        }
+    }
+
+    // the record of a runtime with a shared instance never changes, thus only the shared state needs to be updated
+    private void addDirty(InteractionRuntime runtime, boolean registered) {
+        String key = sharedKey(runtime.getInstance().getClass(), runtime.guildId);
+        if (key == null || registered) {
+            dirtyRuntimes.put(runtime.getInstanceIdLong(), runtime);
+        }
+        if (key != null) {
+            // the shared state must live as long as the runtime referring to it that expires last
+            dirtyInstances.merge(key, runtime, (previous, current) ->
+                    previous.expiration >= current.expiration ? previous : current);
+        }
+    }
+
+    private void persistRuntime(RuntimeStore store, InteractionRuntime runtime) {
+        if (runtime.expiration <= System.currentTimeMillis()) {
+            return;
+        }
+        Object instance = runtime.getInstance();
+        String state = instance.getClass().getName() + "\n" + runtime.guildId + "\n";
+        if (sharedKey(instance.getClass(), runtime.guildId) == null) {
+            String json = serialize(runtime.getInstanceId(), instance);
+            if (json == null) {
+                return;
+            }
+            state += json;
+        }
+        try {
+            store.store(runtime.getInstanceId(), state.getBytes(StandardCharsets.UTF_8), runtime.expiration);
+        } catch (RuntimeException e) {
+            log.warn("Unable to persist runtime {} of {}", runtime.getInstanceId(), instance.getClass().getName(), e);
+        }
+    }
+
+    private void persistInstance(RuntimeStore store, String key, InteractionRuntime runtime) {
+        String json = serialize(key, runtime.getInstance());
+        if (json == null) {
+            return;
+        }
+        try {
+            long expiration = Math.max(runtime.expiration,
+                    store.load(key).map(RuntimeStore.Entry::getExpiration).orElse(0L));
+            store.store(key, json.getBytes(StandardCharsets.UTF_8), expiration);
+        } catch (RuntimeException e) {
+            log.warn("Unable to persist shared instance {}", key, e);
+        }
+    }
+
+    private String serialize(String id, Object instance) {
+        try {
+            if (!isSerializable(instance, Collections.newSetFromMap(new IdentityHashMap<>()), 0)) {
+                log.warn("Unable to persist runtime {} of {}! State contains a reference cycle or is nested too deeply",
+                        id, instance.getClass().getName());
+                return null;
+            }
+            return gson.toJson(instance);
+        } catch (IllegalAccessException | RuntimeException e) {
+            log.warn("Unable to persist runtime {} of {}", id, instance.getClass().getName(), e);
+            return null;
+        }
+    }
+
+    // the key of the state of a singleton or guild scoped instance or null if the instance isn't shared
+    private static String sharedKey(Class<?> clazz, long guildId) {
+        switch (scopeOf(clazz)) {
+            case SINGLETON:
+                return clazz.getName();
+            case GUILD:
+                return guildId == 0 ? null : clazz.getName() + "@" + guildId;
+            default:
+                return null;
+        }
+    }
+
+    private static Interaction.InstanceScope scopeOf(Class<?> clazz) {
+        Interaction interaction = clazz.getAnnotation(Interaction.class);
+        return interaction == null ? Interaction.InstanceScope.INVOCATION : interaction.scope();
+    }
+
+    // gson doesn't detect reference cycles but overflows the stack, thus walk the fields gson would serialize first
+    private static boolean isSerializable(Object object, Set<Object> path, int depth) throws IllegalAccessException {
+        if (object == null || object instanceof CharSequence || object instanceof Number ||
+                object instanceof Boolean || object instanceof Character || object instanceof Enum) {
+            return true;
+        }
+        Class<?> type = object.getClass();
+        if (type.isArray() && type.getComponentType().isPrimitive()) {
+            return true;
+        }
+        if (depth > MAX_STATE_DEPTH || !path.add(object)) {
+            return false;
+        }
+        try {
+            if (object instanceof Object[]) {
+                for (Object element : (Object[]) object) {
+                    if (!isSerializable(element, path, depth + 1)) {
+                        return false;
+                    }
+                }
+            } else if (object instanceof Collection) {
+                for (Object element : (Collection<?>) object) {
+                    if (!isSerializable(element, path, depth + 1)) {
+                        return false;
+                    }
+                }
+            } else if (object instanceof Map) {
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+                    if (!isSerializable(entry.getKey(), path, depth + 1) ||
+                            !isSerializable(entry.getValue(), path, depth + 1)) {
+                        return false;
+                    }
+                }
+            } else if (!type.getName().startsWith("java.")) {
+                for (Field field : persistedFields.get(type)) {
+                    if (!isSerializable(field.get(object), path, depth + 1)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        } finally {
+            path.remove(object);
+        }
+    }
+
+    private Optional<InteractionRuntime> rehydrate(long runtimeId) {
+        RuntimeStore store = this.store;
+        if (store == null || interactionRegistry == null) {
+            return Optional.empty();
+        }
+        // only convert on a cache miss, lookups of stored runtimes don't allocate
+        String id = Long.toUnsignedString(runtimeId);
+        try {
+            // the latest state might not be written yet
+            InteractionRuntime pending = dirtyRuntimes.get(runtimeId);
+            if (pending != null) {
+                return Optional.of(restore(id, pending.getInstance().getClass(), pending.guildId, pending.expiration,
+                        pending::getInstance));
+            }
+            Optional<RuntimeStore.Entry> entry = store.load(id);
+            if (entry.isEmpty()) {
+                return Optional.empty();
+            }
+            String state = new String(entry.get().getState(), StandardCharsets.UTF_8);
+            int classEnd = state.indexOf('\n');
+            int guildEnd = state.indexOf('\n', classEnd + 1);
+            String className = state.substring(0, classEnd);
+            // never load a class named by the store, it might run arbitrary static initializers
+            Optional<Class<?>> clazz = interactionRegistry.getControllerClass(className);
+            if (clazz.isEmpty()) {
+                log.warn("Unable to rehydrate runtime {}! {} isn't a registered controller", id, className);
+                store.remove(id);
+                return Optional.empty();
+            }
+            long guildId = Long.parseLong(state.substring(classEnd + 1, guildEnd));
+            String key = sharedKey(clazz.get(), guildId);
+            InstanceFactory factory = key == null
+                    ? () -> deserialize(state.substring(guildEnd + 1), clazz.get())
+                    : () -> loadInstance(store, key, clazz.get());
+            return Optional.of(restore(id, clazz.get(), guildId, entry.get().getExpiration(), factory));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warn("Unable to rehydrate runtime {}", id, e);
+            store.remove(id);
+            return Optional.empty();
+        }
+    }
+
+    // shared instances that are still alive hold the latest state, thus only restore them if they are gone
+    private InteractionRuntime restore(String id, Class<?> clazz, long guildId, long expiration, InstanceFactory factory)
+            throws InvocationTargetException, InstantiationException, IllegalAccessException {
+        Interaction.InstanceScope scope = scopeOf(clazz);
+        Object instance;
+        if (scope == Interaction.InstanceScope.SINGLETON) {
+            instance = getSingleton(clazz, factory);
+        } else if (scope == Interaction.InstanceScope.GUILD && guildId != 0) {
+            instance = getGuildInstance(clazz, guildId, factory);
+        } else {
+            instance = factory.create();
+        }
+        long timeout = Math.max(1, expiration - System.currentTimeMillis());
+        InteractionRuntime runtime = new InteractionRuntime(id, instance, timeout);
+        runtime.guildId = guildId;
+        register(runtime, false);
+        log.debug("Rehydrated runtime {}", id);
+        return runtime;
+    }
+
+    private Object loadInstance(RuntimeStore store, String key, Class<?> clazz) {
+        InteractionRuntime pending = dirtyInstances.get(key);
+        if (pending != null) {
+            return pending.getInstance();
+        }
+        RuntimeStore.Entry entry = store.load(key).orElseThrow(() ->
+                new IllegalStateException(String.format("State of shared instance %s is missing!", key)));
+        return deserialize(new String(entry.getState(), StandardCharsets.UTF_8), clazz);
+    }
+
+    private Object deserialize(String json, Class<?> clazz) {
+        Object instance = gson.fromJson(json, clazz);
+        injector.inject(instance);
+        return instance;
+    }
+
+    // only react to the collection thresholds a supervisor set, other thresholds belong to someone else
+    private static void onHeapNotification(Notification notification, Object handback) {
+        if (!MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED.equals(notification.getType())) {
+            return;
+        }
+        String poolName = MemoryNotificationInfo.from((CompositeData) notification.getUserData()).getPoolName();
+        Long threshold = configuredThresholds.get(poolName);
+        if (threshold == null) {
+            return;
+        }
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getName().equals(poolName) && pool.getCollectionUsageThreshold() != threshold) {
+                return;
+            }
+        }
+        for (RuntimeSupervisor supervisor : heapSupervisors) {
+            int evicted = supervisor.evict(0.5);
+            log.warn("Heap usage of {} exceeded threshold! Evicted {} runtime(s)", poolName, evicted);
+        }
+    }
+
+    @FunctionalInterface
+    private interface InstanceFactory {
+        Object create() throws InvocationTargetException, InstantiationException, IllegalAccessException;
+    }
+
+    private static class LazyHolder {
+        private volatile Object instance;
+
+        private Object get(Class<?> clazz, InstanceFactory factory)
+                throws InvocationTargetException, InstantiationException, IllegalAccessException {
+            Object result = instance;
+            if (result != null) {
+                return result;
+            }
+            synchronized (this) {
+                if (instance == null) {
+                    // if the factory fails, the instance stays null and the next call tries again
+                    instance = factory.create();
+                    log.debug("Created singleton instance of {}", clazz.getName());
+                }
+                return instance;
+            }
+        }
+    }
+
+    /**
+     * A runtime used for executing interactions. This class holds the instance of the class annotated with
+     * {@link com.github.kaktushose.jda.commands.annotations.interactions.Interaction Interaction} where commands,
+     * buttons, etc. live in.
+     *
+     * @author Kaktushose
+     * @version 4.0.0
+     * @since 4.0.0
+     */
+    public static class InteractionRuntime {
+        private final String instanceId;
+        private final long instanceIdLong;
+        private final Object instance;
+        private final long timeout;
+        private volatile boolean registered;
+        private volatile boolean referenced;
+        private volatile long expiration;
+        private volatile long weight;
+        private volatile long guildId;
+
+        /**
+         * Constructs a new InteractionRuntime with a TTL of 15 minutes.
+         *
+         * @param instanceId the id of this instance, i.e. the snowflake id of the event creating this runtime
+         * @throws NumberFormatException if the instance id isn't an unsigned long
+         * @param instance   the instance of the
+         *                   {@link com.github.kaktushose.jda.commands.annotations.interactions.Interaction Interaction} class
+         */
+        public InteractionRuntime(String instanceId, Object instance) {
+            this(instanceId, instance, TimeUnit.MINUTES.toMillis(15));
+        }
+
+        /**
+         * Constructs a new InteractionRuntime.
+         *
+         * @param instanceId the id of this instance, i.e. the snowflake id of the event creating this runtime
+         * @throws NumberFormatException if the instance id isn't an unsigned long
+         * @param instance   the instance of the
+         *                   {@link com.github.kaktushose.jda.commands.annotations.interactions.Interaction Interaction} class
+         * @param timeout    the TTL of this runtime in milliseconds
+         */
+        public InteractionRuntime(String instanceId, Object instance, long timeout) {
+            this.instanceId = instanceId;
+            this.instanceIdLong = Long.parseUnsignedLong(instanceId);
+            this.instance = instance;
+            this.timeout = timeout;
+        }
+
+        /**
+         * Gets the instance id.
+         *
+         * @return the instance id
+         */
+        public String getInstanceId() {
+            return instanceId;
+        }
+
+        /**
+         * Gets the instance id as an unsigned long.
+         *
+         * @return the instance id as an unsigned long
+         */
+        public long getInstanceIdLong() {
+            return instanceIdLong;
+        }
+
+        /**
+         * Gets the instance.
+         *
+         * @return the instance
+         */
+        public Object getInstance() {
+            return instance;
+        }
+
+        /**
+         * Gets the TTL of this runtime in milliseconds.
+         *
+         * @return the TTL of this runtime
+         */
+        public long getTimeout() {
+            return timeout;
+        }
+
+        /**
+         * Whether this runtime is stored by the {@link RuntimeSupervisor}.
+         *
+         * @return {@code true} if this runtime is stored by the {@link RuntimeSupervisor}
+         */
+        public boolean isRegistered() {
+            return registered;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.github.kaktushose.jda.commands.dispatching.buttons;
 
 import com.github.kaktushose.jda.commands.JDACommands;
 import com.github.kaktushose.jda.commands.dispatching.GenericContext;
+import com.github.kaktushose.jda.commands.dispatching.RuntimeSupervisor.InteractionRuntime;
 import com.github.kaktushose.jda.commands.reflect.interactions.ButtonDefinition;
 import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
 
@@ -15,6 +16,7 @@ import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
 public class ButtonContext extends GenericContext<ButtonInteractionEvent> {
 
     private ButtonDefinition button;
+    private InteractionRuntime runtime;
 
     /**
      * Constructs a new ButtonContext.
@@ -45,4 +47,24 @@ public class ButtonContext extends GenericContext<ButtonInteractionEvent> {
         this.button = button;
         return this;
     }
+
+    /**
+     * Gets the {@link InteractionRuntime} used to execute this button event.
+     *
+     * @return the {@link InteractionRuntime}
+     */
+    public InteractionRuntime getRuntime() {
+        return runtime;
+    }
+
+    /**
+     * Sets the {@link InteractionRuntime} that will be used to execute this button event.
+     *
+     * @param runtime the {@link InteractionRuntime}
+     * @return the current ButtonContext instance
+     */
+    public ButtonContext setRuntime(InteractionRuntime runtime) {
+        this.runtime = runtime;
+        return this;
+    }
 }
@@ -0,0 +1,155 @@
+package com.github.kaktushose.jda.commands.dispatching.buttons;
+
+import com.github.kaktushose.jda.commands.dispatching.ComponentIdCodec;
+import com.github.kaktushose.jda.commands.dispatching.ComponentStateCodec;
+import com.github.kaktushose.jda.commands.dispatching.DispatcherSupervisor;
+import com.github.kaktushose.jda.commands.dispatching.GenericDispatcher;
+import com.github.kaktushose.jda.commands.dispatching.RuntimeSupervisor;
+import com.github.kaktushose.jda.commands.dispatching.RuntimeSupervisor.InteractionRuntime;
+import com.github.kaktushose.jda.commands.dispatching.filter.Filter;
+import com.github.kaktushose.jda.commands.dispatching.filter.FilterRegistry.FilterPosition;
+import com.github.kaktushose.jda.commands.dispatching.reply.ReplyContext;
+import com.github.kaktushose.jda.commands.reflect.interactions.ButtonDefinition;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Optional;
+
+/**
+ * Dispatches buttons by taking a {@link ButtonContext} and passing it through the execution chain.
+ *
+ * @author Kaktushose
+ * @version 4.0.0
+ * @since 4.0.0
+ */
+public class ButtonDispatcher extends GenericDispatcher<ButtonContext> {
+
+    private static final Logger log = LoggerFactory.getLogger(ButtonDispatcher.class);
+    private final RuntimeSupervisor runtimeSupervisor;
+
+    /**
+     * Constructs a new ButtonDispatcher.
+     *
+     * @param supervisor        the {@link DispatcherSupervisor} which supervises this dispatcher.
+     * @param runtimeSupervisor the corresponding {@link RuntimeSupervisor}
+     */
+    public ButtonDispatcher(DispatcherSupervisor supervisor, RuntimeSupervisor runtimeSupervisor) {
+        super(supervisor);
+        this.runtimeSupervisor = runtimeSupervisor;
+    }
+
+    /**
+     * Dispatches a {@link ButtonContext}. This will route the button, apply all filters and finally invoke the button
+     * method on the instance of the {@link InteractionRuntime} the button refers to. For stateless buttons a new
+     * instance gets created instead and the state encoded in the custom id is restored.
+     *
+     * @param context the {@link ButtonContext} to dispatch.
+     */
+    @Override
+    public void onEvent(ButtonContext context) {
+        ButtonInteractionEvent event = context.getEvent();
+
+        log.debug("Applying filters in phase BEFORE_ROUTING...");
+        for (Filter filter : filterRegistry.getAll(FilterPosition.BEFORE_ROUTING)) {
+            filter.apply(context);
+            if (checkCancelled(context)) {
+                return;
+            }
+        }
+
+        String componentId = event.getComponentId();
+        Optional<ButtonDefinition> optional = ComponentIdCodec.isValid(componentId)
+                ? interactionRegistry.getButton(ComponentIdCodec.decodeKey(componentId))
+                : Optional.empty();
+        if (optional.isEmpty()) {
+            log.debug("No button found for id {}", componentId);
+            return;
+        }
+
+        ButtonDefinition button = optional.get();
+        context.setButton(button).setEphemeral(button.isEphemeral());
+        log.debug("Input matches button: {}", button);
+
+        log.debug("Acknowledging event");
+        event.deferEdit().queue();
+
+        InteractionRuntime runtime;
+        if (button.isStateless()) {
+            try {
+                runtime = runtimeSupervisor.newStatelessRuntime(event, button);
+            } catch (Exception exception) {
+                log.error("Unable to restore state of button!", exception);
+                Throwable throwable = exception instanceof InvocationTargetException ? exception.getCause() : exception;
+                context.setCancelled(true).setErrorMessage(
+                        implementationRegistry.getErrorMessageFactory().getCommandExecutionFailedMessage(context, throwable)
+                );
+                checkCancelled(context);
+                return;
+            }
+            try {
+                ComponentStateCodec.decode(ComponentIdCodec.decodeState(componentId), button.getStateFields(), runtime.getInstance());
+            } catch (IllegalArgumentException exception) {
+                // the custom id can be forged or outdated, thus treat it like an expired runtime
+                log.debug("Invalid state of component {}", componentId, exception);
+                sendTimedOut(event);
+                return;
+            }
+        } else {
+            Optional<InteractionRuntime> stored = runtimeSupervisor.getRuntime(event);
+            if (stored.isEmpty()) {
+                sendTimedOut(event);
+                return;
+            }
+            runtime = stored.get();
+        }
+        context.setRuntime(runtime);
+
+        log.debug("Applying filters in phase BEFORE_ADAPTING...");
+        for (Filter filter : filterRegistry.getAll(FilterPosition.BEFORE_ADAPTING)) {
+            filter.apply(context);
+            if (checkCancelled(context)) {
+                return;
+            }
+        }
+
+        log.debug("Applying filters in phase BEFORE_EXECUTION...");
+        for (Filter filter : filterRegistry.getAll(FilterPosition.BEFORE_EXECUTION)) {
+            filter.apply(context);
+            if (checkCancelled(context)) {
+                return;
+            }
+        }
+
+        log.info("Executing button {} for user {}", button.getMethod().getName(), event.getMember());
+        try {
+            button.invoke(runtime.getInstance(), new ButtonEvent(button, context));
+            runtimeSupervisor.update(runtime);
+        } catch (Exception exception) {
+            log.error("Button execution failed!", exception);
+            Throwable throwable = exception instanceof InvocationTargetException ? exception.getCause() : exception;
+            context.setCancelled(true).setErrorMessage(
+                    implementationRegistry.getErrorMessageFactory().getCommandExecutionFailedMessage(context, throwable)
+            );
+            checkCancelled(context);
+        }
+    }
+
+    private void sendTimedOut(ButtonInteractionEvent event) {
+        event.getHook().editOriginalComponents().queue();
+        event.getHook().sendMessage("*this interaction timed out*").setEphemeral(true).queue();
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    private boolean checkCancelled(ButtonContext context) {
+        if (context.isCancelled()) {
+            // don't replace the message holding the button, send the error message as a new one instead
+            ReplyContext replyContext = new ReplyContext(context).setEditReply(false).setEphemeralReply(true);
+            replyContext.getBuilder().applyData(context.getErrorMessage());
+            replyContext.queue();
+            return true;
+        }
+        return false;
+    }
+}
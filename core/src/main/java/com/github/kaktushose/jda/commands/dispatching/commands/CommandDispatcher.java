@@ -59,9 +59,7 @@ public class CommandDispatcher extends GenericDispatcher<CommandContext> {
             }
         }
 
-        Optional<CommandDefinition> optional = interactionRegistry.getCommands().stream()
-                .filter(it -> it.getName().equals(context.getEvent().getFullCommandName()))
-                .findFirst();
+        Optional<CommandDefinition> optional = interactionRegistry.getCommand(context.getEvent().getFullCommandName());
         if (optional.isEmpty()) {
             IllegalStateException exception = new IllegalStateException(
                     "No slash command found! Please report this error the the devs of jda-commands."
@@ -114,10 +112,11 @@ public class CommandDispatcher extends GenericDispatcher<CommandContext> {
             InteractionRuntime runtime = runtimeSupervisor.newRuntime(context.getEvent(), command);
             context.setRuntime(runtime);
             log.debug("Invoking method with following arguments: {}", context.getArguments());
-            command.getMethod().invoke(runtime.getInstance(), context.getArguments().toArray());
+            command.invoke(runtime.getInstance(), context.getArguments().toArray());
+            runtimeSupervisor.update(runtime);
         } catch (Exception exception) {
             log.error("Command execution failed!", exception);
-            // this unwraps the underlying error in case of an exception inside the command class
+            // this unwraps the underlying error in case of an exception inside the constructor or the command method
             Throwable throwable = exception instanceof InvocationTargetException ? exception.getCause() : exception;
             context.setCancelled(true).setErrorMessage(messageFactory.getCommandExecutionFailedMessage(context, throwable));
             checkCancelled(context);
@@ -1,19 +1,13 @@
 package com.github.kaktushose.jda.commands.dispatching.commands;
 
 import com.github.kaktushose.jda.commands.JDACommands;
-import com.github.kaktushose.jda.commands.components.Buttons;
 import com.github.kaktushose.jda.commands.components.Component;
 import com.github.kaktushose.jda.commands.dispatching.GenericEvent;
 import com.github.kaktushose.jda.commands.dispatching.reply.ReplyContext;
 import com.github.kaktushose.jda.commands.dispatching.reply.Replyable;
 import com.github.kaktushose.jda.commands.reflect.interactions.CommandDefinition;
-import net.dv8tion.jda.api.interactions.components.ActionRow;
-import net.dv8tion.jda.api.interactions.components.ItemComponent;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * This class is a subclass of {@link GenericEvent}.
  * It provides some additional features for sending messages and also grants
@@ -73,25 +67,7 @@ public class CommandEvent extends GenericEvent implements Replyable {
 
     @Override
     public Replyable with(@NotNull Component... components) {
-        List<ItemComponent> items = new ArrayList<>();
-        for (Component component : components) {
-            if (component instanceof Buttons) {
-                Buttons buttons = (Buttons) component;
-                buttons.getButtons().forEach(button -> {
-                    String id = String.format("%s.%s", command.getMethod().getDeclaringClass().getSimpleName(), button.getId());
-                    getJdaCommands().getInteractionRegistry().getButtons()
-                            .stream()
-                            .filter(it -> it.getId().equals(id))
-                            .findFirst()
-                            .map(it -> it.toButton().withDisabled(!button.isEnabled()).withId(it.getRuntimeId(context)))
-                            .ifPresent(items::add);
-                });
-            }
-        }
-
-        if (items.size() > 0) {
-            getReplyContext().getBuilder().addComponents(ActionRow.of(items));
-        }
+        addComponents(getJdaCommands(), command.getMethod().getDeclaringClass(), context.getRuntime(), replyContext, components);
         return this;
     }
 
@@ -28,12 +28,15 @@ public class ConstraintFilter implements Filter {
 
     /**
      * Checks if all parameters fulfill their constraints. Will cancel the {@link GenericContext} if a parameter
-     * constraint fails.
+     * constraint fails. Constraints that are already enforced by Discord will be skipped.
      *
      * @param ctx the {@link GenericContext} to filter
      */
     @Override
     public void apply(@NotNull GenericContext ctx) {
+        if (!(ctx instanceof CommandContext)) {
+            return;
+        }
         CommandContext context = (CommandContext) ctx;
         List<Object> arguments = context.getArguments();
         List<ParameterDefinition> parameters = Objects.requireNonNull(context.getCommand()).getParameters();
@@ -42,7 +45,7 @@ public class ConstraintFilter implements Filter {
         for (int i = 1; i < arguments.size(); i++) {
             Object argument = arguments.get(i);
             ParameterDefinition parameter = parameters.get(i);
-            for (ConstraintDefinition constraint : parameter.getConstraints()) {
+            for (ConstraintDefinition constraint : parameter.getRuntimeConstraints()) {
                 log.debug("Found constraint {} for parameter {}", constraint, parameter.getType().getName());
 
                 boolean validated = constraint.getValidator().validate(argument, constraint.getAnnotation(), context);
@@ -32,6 +32,9 @@ public class DirectMessageFilter implements Filter {
      */
     @Override
     public void apply(@NotNull GenericContext context) {
+        if (!(context instanceof CommandContext)) {
+            return;
+        }
         CommandContext commandContext = (CommandContext) context;
         Channel channel = context.getEvent().getChannel();
         if (channel == null) {
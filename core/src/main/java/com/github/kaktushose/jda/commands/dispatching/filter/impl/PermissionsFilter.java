@@ -38,6 +38,10 @@ public class PermissionsFilter implements Filter {
      */
     @Override
     public void apply(@NotNull GenericContext context) {
+        // permissions are only defined for commands yet
+        if (!(context instanceof CommandContext)) {
+            return;
+        }
         log.debug("Checking permissions...");
         PermissionsProvider provider = context.getImplementationRegistry().getPermissionsProvider();
 
@@ -1,8 +1,9 @@
 package com.github.kaktushose.jda.commands.dispatching.reply;
 
-import com.github.kaktushose.jda.commands.dispatching.commands.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.GenericContext;
 import net.dv8tion.jda.api.entities.Message;
-import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.GenericInteractionCreateEvent;
+import net.dv8tion.jda.api.interactions.callbacks.IReplyCallback;
 import net.dv8tion.jda.api.utils.messages.MessageCreateBuilder;
 import net.dv8tion.jda.api.utils.messages.MessageCreateData;
 import net.dv8tion.jda.api.utils.messages.MessageEditData;
@@ -11,15 +12,18 @@ import java.util.function.Consumer;
 
 public class ReplyContext {
 
-    private final SlashCommandInteractionEvent event;
+    private final IReplyCallback event;
     private final MessageCreateBuilder builder;
     private Consumer<Message> consumer;
     private boolean editReply;
     private boolean clearComponents;
     private boolean ephemeralReply;
 
-    public ReplyContext(CommandContext context) {
-        event = context.getEvent();
+    public ReplyContext(GenericContext<? extends GenericInteractionCreateEvent> context) {
+        if (!(context.getEvent() instanceof IReplyCallback)) {
+            throw new IllegalArgumentException("Cannot reply to " + context.getEvent().getClass().getSimpleName());
+        }
+        event = (IReplyCallback) context.getEvent();
         builder = new MessageCreateBuilder();
         consumer = (message) -> {
         };
@@ -9,9 +9,9 @@ import org.slf4j.LoggerFactory;
 
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Central registry for all {@link Validator Validators}.
@@ -40,7 +40,7 @@ public class ValidatorRegistry {
      * </ul>
      */
     public ValidatorRegistry() {
-        validators = new HashMap<>();
+        validators = new ConcurrentHashMap<>();
         // default types
         register(Min.class, new MinimumValidator());
         register(Max.class, new MaximumValidator());
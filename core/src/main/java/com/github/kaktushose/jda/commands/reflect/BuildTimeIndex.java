@@ -0,0 +1,172 @@
+package com.github.kaktushose.jda.commands.reflect;
+
+import com.github.kaktushose.jda.commands.annotations.Produces;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.security.CodeSource;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Index of the classes jda-commands would otherwise find by scanning the classpath. The index is written at compile
+ * time by the jda-commands annotation processor to {@value #LOCATION} and lists all
+ * {@link com.github.kaktushose.jda.commands.annotations.interactions.Interaction Interaction} controllers,
+ * {@link com.github.kaktushose.jda.commands.annotations.Component Component} implementations and
+ * {@link Produces} methods, one binary class name or {@code className#methodName} per line. Like the classpath
+ * scan, the index includes subclasses of annotated classes.
+ *
+ * <p>An index only describes the classpath root, i.e. the directory or jar, it is located in. Indices of other roots,
+ * for instance of dependencies, are never taken into account. Roots without an index get scanned by
+ * {@link ClassIndex#create(ClassLoader, Collection, String...)}.
+ *
+ * @author Kaktushose
+ * @version 4.0.0
+ * @see ClassIndex
+ * @since 4.0.0
+ */
+public final class BuildTimeIndex {
+
+    /**
+     * The directory of the index files.
+     */
+    public static final String LOCATION = "META-INF/jda-commands/";
+
+    /**
+     * The name of the index file listing the interaction controllers.
+     */
+    public static final String INTERACTIONS = "interactions";
+
+    /**
+     * The name of the index file listing the component implementations.
+     */
+    public static final String COMPONENTS = "components";
+
+    /**
+     * The name of the index file listing the producer methods.
+     */
+    public static final String PRODUCERS = "producers";
+
+    private static final Logger log = LoggerFactory.getLogger(BuildTimeIndex.class);
+
+    private BuildTimeIndex() {
+    }
+
+    /**
+     * Loads the index located in the classpath root of the given class.
+     *
+     * @param clazz    a class of the classpath root to load the index of
+     * @param packages package(s) to exclusively include, includes everything if empty
+     * @return an {@link Optional} holding the {@link ClassIndex} or an empty {@link Optional} if no index is present
+     */
+    @NotNull
+    public static Optional<ClassIndex> load(@NotNull Class<?> clazz, @NotNull String... packages) {
+        CodeSource codeSource = clazz.getProtectionDomain().getCodeSource();
+        if (clazz.getClassLoader() == null || codeSource == null || codeSource.getLocation() == null) {
+            return Optional.empty();
+        }
+        return load(clazz.getClassLoader(), codeSource.getLocation(), packages);
+    }
+
+    /**
+     * Loads the index located in the given classpath root.
+     *
+     * @param loader   the {@link ClassLoader} to load the indexed classes with
+     * @param root     the classpath root, i.e. a directory or a jar, to load the index of
+     * @param packages package(s) to exclusively include, includes everything if empty
+     * @return an {@link Optional} holding the {@link ClassIndex} or an empty {@link Optional} if no index is present
+     */
+    @NotNull
+    public static Optional<ClassIndex> load(@NotNull ClassLoader loader, @NotNull URL root, @NotNull String... packages) {
+        // without a parent, the resource loader only sees the given root
+        try (URLClassLoader resources = new URLClassLoader(new URL[]{root}, null)) {
+            Optional<List<String>> interactions = read(resources, INTERACTIONS, packages);
+            Optional<List<String>> components = read(resources, COMPONENTS, packages);
+            Optional<List<String>> producers = read(resources, PRODUCERS, packages);
+            if (interactions.isEmpty() && components.isEmpty() && producers.isEmpty()) {
+                return Optional.empty();
+            }
+            ClassIndex index = new ClassIndex(
+                    loadClasses(loader, interactions.orElse(Collections.emptyList())),
+                    loadClasses(loader, components.orElse(Collections.emptyList())),
+                    loadMethods(loader, producers.orElse(Collections.emptyList()))
+            );
+            log.debug("Loaded build time index {} of {}", index, root);
+            return Optional.of(index);
+        } catch (IOException e) {
+            log.error("Unable to read build time index of {}! Falling back to classpath scanning", root, e);
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<List<String>> read(URLClassLoader resources, String name, String... packages) throws IOException {
+        URL url = resources.findResource(LOCATION + name);
+        if (url == null) {
+            return Optional.empty();
+        }
+        List<String> result = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#") || !isIncluded(line, packages)) {
+                    continue;
+                }
+                result.add(line);
+            }
+        }
+        return Optional.of(result);
+    }
+
+    private static boolean isIncluded(String name, String... packages) {
+        if (packages.length == 0) {
+            return true;
+        }
+        for (String pkg : packages) {
+            if (name.startsWith(pkg + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<Class<?>> loadClasses(ClassLoader loader, List<String> names) {
+        Set<Class<?>> result = new LinkedHashSet<>();
+        for (String name : names) {
+            try {
+                result.add(Class.forName(name, false, loader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                log.warn("Build time index is out of date! Skipping class {}", name, e);
+            }
+        }
+        return result;
+    }
+
+    private static Set<Method> loadMethods(ClassLoader loader, List<String> names) {
+        Set<Method> result = new LinkedHashSet<>();
+        for (String name : names) {
+            int separator = name.indexOf('#');
+            if (separator < 0) {
+                log.warn("Invalid build time index entry {}", name);
+                continue;
+            }
+            String methodName = name.substring(separator + 1);
+            Set<Class<?>> declaring = loadClasses(loader, Collections.singletonList(name.substring(0, separator)));
+            for (Class<?> clazz : declaring) {
+                for (Method method : clazz.getDeclaredMethods()) {
+                    if (method.getName().equals(methodName) && method.isAnnotationPresent(Produces.class)) {
+                        result.add(method);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,186 @@
+package com.github.kaktushose.jda.commands.reflect;
+
+import com.github.kaktushose.jda.commands.annotations.Component;
+import com.github.kaktushose.jda.commands.annotations.Produces;
+import com.github.kaktushose.jda.commands.annotations.interactions.Interaction;
+import org.jetbrains.annotations.NotNull;
+import org.reflections.Reflections;
+import org.reflections.scanners.Scanners;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.FilterBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.util.*;
+
+/**
+ * Immutable index of all classes and methods jda-commands needs to know at startup, i.e.
+ * {@link Interaction Interaction} controllers, {@link Component} implementations and {@link Produces} methods. The
+ * index is created once by {@link com.github.kaktushose.jda.commands.JDACommands JDACommands} and shared by all
+ * registries.
+ *
+ * @author Kaktushose
+ * @version 4.0.0
+ * @see BuildTimeIndex
+ * @since 4.0.0
+ */
+public final class ClassIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ClassIndex.class);
+    private final Set<Class<?>> interactions;
+    private final Set<Class<?>> components;
+    private final Set<Method> producers;
+
+    ClassIndex(Set<Class<?>> interactions, Set<Class<?>> components, Set<Method> producers) {
+        this.interactions = Collections.unmodifiableSet(interactions);
+        this.components = Collections.unmodifiableSet(components);
+        this.producers = Collections.unmodifiableSet(producers);
+    }
+
+    /**
+     * Creates the index of the classpath of the given class, covering the same classpath root as
+     * {@link #scan(Class, String...)}.
+     *
+     * @param clazz    a class of the classpath to index
+     * @param packages package(s) to exclusively index
+     * @return the {@link ClassIndex}
+     * @see #create(ClassLoader, Collection, String...)
+     */
+    @NotNull
+    public static ClassIndex create(@NotNull Class<?> clazz, @NotNull String... packages) {
+        ClassLoader loader = clazz.getClassLoader();
+        if (loader == null) {
+            return scan(clazz, packages);
+        }
+        return create(loader, roots(clazz), packages);
+    }
+
+    /**
+     * Creates the index of the given classpath roots. The {@link BuildTimeIndex} of a root is read if present, all
+     * roots without an index get scanned once for all annotations. Thus, an index shipped by a dependency neither
+     * replaces the scan of the other roots nor adds classes of roots that weren't asked for.
+     *
+     * @param loader   the {@link ClassLoader} to load the indexed classes with
+     * @param roots    the classpath roots, i.e. directories or jars, to index
+     * @param packages package(s) to exclusively index
+     * @return the {@link ClassIndex}
+     */
+    @NotNull
+    public static ClassIndex create(@NotNull ClassLoader loader, @NotNull Collection<URL> roots, @NotNull String... packages) {
+        Set<Class<?>> interactions = new LinkedHashSet<>();
+        Set<Class<?>> components = new LinkedHashSet<>();
+        Set<Method> producers = new LinkedHashSet<>();
+        List<URL> unindexed = new ArrayList<>();
+        for (URL root : roots) {
+            Optional<ClassIndex> index = BuildTimeIndex.load(loader, root, packages);
+            if (index.isEmpty()) {
+                unindexed.add(root);
+                continue;
+            }
+            interactions.addAll(index.get().interactions);
+            components.addAll(index.get().components);
+            producers.addAll(index.get().producers);
+        }
+        if (!unindexed.isEmpty()) {
+            ClassIndex scanned = scan(loader, unindexed, packages);
+            interactions.addAll(scanned.interactions);
+            components.addAll(scanned.components);
+            producers.addAll(scanned.producers);
+        }
+        return new ClassIndex(interactions, components, producers);
+    }
+
+    /**
+     * Scans the classpath of the given class for all annotations, regardless of a {@link BuildTimeIndex} being
+     * present. The classpath urls are scanned in parallel.
+     *
+     * @param clazz    a class of the classpath to scan
+     * @param packages package(s) to exclusively scan
+     * @return the {@link ClassIndex}
+     */
+    @NotNull
+    public static ClassIndex scan(@NotNull Class<?> clazz, @NotNull String... packages) {
+        return scan(clazz.getClassLoader(), roots(clazz), packages);
+    }
+
+    private static Collection<URL> roots(Class<?> clazz) {
+        URL root = ClasspathHelper.forClass(clazz);
+        return root == null ? Collections.emptyList() : Collections.singletonList(root);
+    }
+
+    private static ClassIndex scan(ClassLoader loader, Collection<URL> roots, String... packages) {
+        log.debug("Scanning classpath roots {}...", roots);
+
+        FilterBuilder filter = new FilterBuilder();
+        for (String pkg : packages) {
+            filter.includePackage(pkg);
+        }
+
+        ConfigurationBuilder config = new ConfigurationBuilder()
+                .setScanners(Scanners.SubTypes, Scanners.TypesAnnotated, Scanners.MethodsAnnotated)
+                .setUrls(roots)
+                .filterInputsBy(filter)
+                .setParallel(true);
+        if (loader != null) {
+            config.addClassLoaders(loader);
+        }
+        Reflections reflections = new Reflections(config);
+
+        return new ClassIndex(
+                new LinkedHashSet<>(reflections.getTypesAnnotatedWith(Interaction.class)),
+                new LinkedHashSet<>(reflections.getTypesAnnotatedWith(Component.class)),
+                new LinkedHashSet<>(reflections.getMethodsAnnotatedWith(Produces.class))
+        );
+    }
+
+    /**
+     * Gets all classes annotated with {@link Interaction}.
+     *
+     * @return a possibly-empty set of all interaction controllers
+     */
+    @NotNull
+    public Set<Class<?>> getInteractions() {
+        return interactions;
+    }
+
+    /**
+     * Gets all classes annotated with {@link Component} that are a subtype of the given type.
+     *
+     * @param type the type to get the subtypes of
+     * @param <T>  the type
+     * @return a possibly-empty set of all component implementations of the given type
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public <T> Set<Class<? extends T>> getComponents(@NotNull Class<T> type) {
+        Set<Class<? extends T>> result = new LinkedHashSet<>();
+        for (Class<?> component : components) {
+            if (component != type && type.isAssignableFrom(component)) {
+                result.add((Class<? extends T>) component);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets all methods annotated with {@link Produces}.
+     *
+     * @return a possibly-empty set of all producer methods
+     */
+    @NotNull
+    public Set<Method> getProducers() {
+        return producers;
+    }
+
+    @Override
+    public String toString() {
+        return "ClassIndex{" +
+                "interactions=" + interactions.size() +
+                ", components=" + components.size() +
+                ", producers=" + producers.size() +
+                '}';
+    }
+}
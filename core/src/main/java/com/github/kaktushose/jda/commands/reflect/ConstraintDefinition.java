@@ -17,18 +17,35 @@ public class ConstraintDefinition {
     private final Validator validator;
     private final String message;
     private final Object annotation;
+    private final boolean delegated;
 
     /**
-     * Constructs a new ConstraintDefinition.
+     * Constructs a new ConstraintDefinition that will be validated at runtime.
      *
      * @param validator  the {@link Validator} to use
      * @param message    the message to display if the constraint fails
      * @param annotation an instance of the annotation declaring the constraint
      */
     public ConstraintDefinition(@NotNull Validator validator, @NotNull String message, @NotNull Object annotation) {
+        this(validator, message, annotation, false);
+    }
+
+    /**
+     * Constructs a new ConstraintDefinition.
+     *
+     * @param validator  the {@link Validator} to use
+     * @param message    the message to display if the constraint fails
+     * @param annotation an instance of the annotation declaring the constraint
+     * @param delegated  whether the constraint is already enforced by Discord
+     */
+    public ConstraintDefinition(@NotNull Validator validator,
+                                @NotNull String message,
+                                @NotNull Object annotation,
+                                boolean delegated) {
         this.validator = validator;
         this.message = message;
         this.annotation = annotation;
+        this.delegated = delegated;
     }
 
     /**
@@ -58,10 +75,23 @@ public class ConstraintDefinition {
         return annotation;
     }
 
+    /**
+     * Whether this constraint is delegated to Discord, i.e. it is part of the
+     * {@link net.dv8tion.jda.api.interactions.commands.build.OptionData OptionData} and Discord will reject any input
+     * violating it. Delegated constraints are skipped by the
+     * {@link com.github.kaktushose.jda.commands.dispatching.filter.impl.ConstraintFilter ConstraintFilter}.
+     *
+     * @return {@code true} if this constraint is enforced by Discord
+     */
+    public boolean isDelegated() {
+        return delegated;
+    }
+
     @Override
     public String toString() {
         return "{" +
                 "validator=" + validator.getClass().getName() +
-                ", message='" + message + "'}";
+                ", message='" + message + "'" +
+                ", delegated=" + delegated + "}";
     }
 }
@@ -17,11 +17,6 @@ import com.github.kaktushose.jda.commands.permissions.PermissionsProvider;
 import com.github.kaktushose.jda.commands.scope.DefaultGuildScopeProvider;
 import com.github.kaktushose.jda.commands.scope.GuildScopeProvider;
 import org.jetbrains.annotations.NotNull;
-import org.reflections.Reflections;
-import org.reflections.scanners.Scanners;
-import org.reflections.util.ClasspathHelper;
-import org.reflections.util.ConfigurationBuilder;
-import org.reflections.util.FilterBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -51,7 +46,6 @@ import java.util.*;
 public class ImplementationRegistry {
 
     private static final Logger log = LoggerFactory.getLogger(ImplementationRegistry.class);
-    private static Reflections reflections;
     private final DependencyInjector dependencyInjector;
     private final FilterRegistry filterRegistry;
     private final TypeAdapterRegistry typeAdapterRegistry;
@@ -87,28 +81,27 @@ public class ImplementationRegistry {
      *
      * @param packages package(s) to exclusively scan
      * @param clazz    a class of the classpath to scan
+     * @see #index(ClassIndex)
      */
     public void index(@NotNull Class<?> clazz, @NotNull String... packages) {
-        log.debug("Indexing custom implementations...");
-
-        FilterBuilder filter = new FilterBuilder();
-        for (String pkg : packages) {
-            filter.includePackage(pkg);
-        }
+        index(ClassIndex.create(clazz, packages));
+    }
 
-        ConfigurationBuilder config = new ConfigurationBuilder()
-                .setScanners(Scanners.SubTypes)
-                .setUrls(ClasspathHelper.forClass(clazz))
-                .filterInputsBy(filter);
-        reflections = new Reflections(config);
+    /**
+     * Registers all custom implementations of the given {@link ClassIndex}.
+     *
+     * @param index the {@link ClassIndex} to get the custom implementations from
+     */
+    public void index(@NotNull ClassIndex index) {
+        log.debug("Indexing custom implementations...");
 
-        findImplementation(PermissionsProvider.class).ifPresent(this::setPermissionsProvider);
-        findImplementation(ErrorMessageFactory.class).ifPresent(this::setErrorMessageFactory);
-        findImplementation(GuildScopeProvider.class).ifPresent(this::setGuildScopeProvider);
+        findImplementation(index, PermissionsProvider.class).ifPresent(this::setPermissionsProvider);
+        findImplementation(index, ErrorMessageFactory.class).ifPresent(this::setErrorMessageFactory);
+        findImplementation(index, GuildScopeProvider.class).ifPresent(this::setGuildScopeProvider);
 
-        findFilters().forEach(filterRegistry::register);
-        findAdapters().forEach(typeAdapterRegistry::register);
-        findValidators().forEach(validatorRegistry::register);
+        findFilters(index).forEach(filterRegistry::register);
+        findAdapters(index).forEach(typeAdapterRegistry::register);
+        findValidators(index).forEach(validatorRegistry::register);
     }
 
     /**
@@ -167,9 +160,9 @@ public class ImplementationRegistry {
     }
 
     @SuppressWarnings("unchecked")
-    private <T> Optional<T> findImplementation(Class<T> type) {
+    private <T> Optional<T> findImplementation(ClassIndex index, Class<T> type) {
         T instance = null;
-        for (Class<?> clazz : reflections.getSubTypesOf(type)) {
+        for (Class<?> clazz : index.getComponents(type)) {
             if (!clazz.isAnnotationPresent(Component.class)) {
                 continue;
             }
@@ -196,9 +189,9 @@ public class ImplementationRegistry {
         return Optional.ofNullable(instance);
     }
 
-    private Map<Filter, FilterRegistry.FilterPosition> findFilters() {
+    private Map<Filter, FilterRegistry.FilterPosition> findFilters(ClassIndex index) {
         Map<Filter, FilterRegistry.FilterPosition> result = new HashMap<>();
-        for (Class<? extends Filter> clazz : reflections.getSubTypesOf(Filter.class)) {
+        for (Class<? extends Filter> clazz : index.getComponents(Filter.class)) {
             if (!clazz.isAnnotationPresent(Component.class)) {
                 continue;
             }
@@ -226,9 +219,9 @@ public class ImplementationRegistry {
     }
 
     @SuppressWarnings("rawtypes")
-    private Map<Class<?>, TypeAdapter<?>> findAdapters() {
+    private Map<Class<?>, TypeAdapter<?>> findAdapters(ClassIndex index) {
         Map<Class<?>, TypeAdapter<?>> result = new HashMap<>();
-        for (Class<? extends TypeAdapter> clazz : reflections.getSubTypesOf(TypeAdapter.class)) {
+        for (Class<? extends TypeAdapter> clazz : index.getComponents(TypeAdapter.class)) {
             if (!clazz.isAnnotationPresent(Component.class)) {
                 continue;
             }
@@ -269,9 +262,9 @@ public class ImplementationRegistry {
         return result;
     }
 
-    private Map<Class<? extends Annotation>, Validator> findValidators() {
+    private Map<Class<? extends Annotation>, Validator> findValidators(ClassIndex index) {
         Map<Class<? extends Annotation>, Validator> result = new HashMap<>();
-        for (Class<? extends Validator> clazz : reflections.getSubTypesOf(Validator.class)) {
+        for (Class<? extends Validator> clazz : index.getComponents(Validator.class)) {
             if (!clazz.isAnnotationPresent(Component.class)) {
                 continue;
             }
@@ -0,0 +1,267 @@
+package com.github.kaktushose.jda.commands.reflect;
+
+import com.github.kaktushose.jda.commands.annotations.interactions.SlashCommand;
+import com.github.kaktushose.jda.commands.data.CommandTree;
+import com.github.kaktushose.jda.commands.dependency.DependencyInjector;
+import com.github.kaktushose.jda.commands.dispatching.ComponentIdCodec;
+import com.github.kaktushose.jda.commands.dispatching.validation.ValidatorRegistry;
+import com.github.kaktushose.jda.commands.reflect.interactions.ButtonDefinition;
+import com.github.kaktushose.jda.commands.reflect.interactions.CommandDefinition;
+import net.dv8tion.jda.api.interactions.commands.localization.LocalizationFunction;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.annotation.Annotation;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Central registry for all {@link CommandDefinition CommandDefinitions}.
+ *
+ * @author Kaktushose
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class InteractionRegistry {
+
+    private final static Logger log = LoggerFactory.getLogger(InteractionRegistry.class);
+    private final ValidatorRegistry validatorRegistry;
+    private final DependencyInjector dependencyInjector;
+    private final LocalizationFunction localizationFunction;
+    private final Set<ControllerDefinition> controllers;
+    private final Map<String, Class<?>> controllerClasses;
+    private final Set<CommandDefinition> commands;
+    private final Set<ButtonDefinition> buttons;
+    private final Map<SlashCommand.CommandScope, CommandTree> commandTrees;
+    private int[] buttonKeys;
+    private ButtonDefinition[] buttonIndex;
+
+    /**
+     * Constructs a new CommandRegistry.
+     *
+     * @param validatorRegistry    the corresponding {@link ValidatorRegistry}
+     * @param dependencyInjector   the corresponding {@link DependencyInjector}
+     * @param localizationFunction the {@link LocalizationFunction} to use
+     */
+    public InteractionRegistry(@NotNull ValidatorRegistry validatorRegistry,
+                               @NotNull DependencyInjector dependencyInjector,
+                               @NotNull LocalizationFunction localizationFunction) {
+        this.validatorRegistry = validatorRegistry;
+        this.dependencyInjector = dependencyInjector;
+        this.localizationFunction = localizationFunction;
+        controllers = new LinkedHashSet<>();
+        controllerClasses = new ConcurrentHashMap<>();
+        commands = new LinkedHashSet<>();
+        buttons = new LinkedHashSet<>();
+        commandTrees = new EnumMap<>(SlashCommand.CommandScope.class);
+        buttonKeys = new int[0];
+        buttonIndex = new ButtonDefinition[0];
+    }
+
+    /**
+     * Scans the whole classpath for commands.
+     *
+     * @param packages package(s) to exclusively scan
+     * @param clazz    a class of the classpath to scan
+     * @see #index(ClassIndex)
+     */
+    public void index(@NotNull Class<?> clazz, @NotNull String... packages) {
+        index(ClassIndex.create(clazz, packages));
+    }
+
+    /**
+     * Registers all controllers of the given {@link ClassIndex}.
+     *
+     * @param index the {@link ClassIndex} to get the controllers from
+     */
+    public void index(@NotNull ClassIndex index) {
+        log.debug("Indexing controllers...");
+
+        List<Class<?>> controllerList = new ArrayList<>(index.getInteractions());
+        controllerList.sort(Comparator.comparing(Class::getName));
+
+        // controllers are independent of each other, thus they can be built in parallel. The encounter order is kept,
+        // so merging the results gives the same registry as building them sequentially
+        List<Optional<ControllerDefinition>> definitions = controllerList.parallelStream().map(aClass -> {
+            log.debug("Found controller {}", aClass.getName());
+            return ControllerDefinition.build(
+                    aClass,
+                    validatorRegistry,
+                    dependencyInjector,
+                    localizationFunction
+            );
+        }).collect(Collectors.toList());
+
+        for (int i = 0; i < definitions.size(); i++) {
+            Optional<ControllerDefinition> optional = definitions.get(i);
+            if (optional.isEmpty()) {
+                log.warn("Unable to index the controller {}!", controllerList.get(i).getName());
+                continue;
+            }
+
+            ControllerDefinition controller = optional.get();
+            controllers.add(controller);
+            controllerClasses.put(controllerList.get(i).getName(), controllerList.get(i));
+            commands.addAll(controller.getCommands());
+            buttons.addAll(controller.getButtons());
+
+            log.debug("Registered controller {}", controller);
+        }
+
+        log.debug("Successfully registered {} controller(s) with a total of {} interaction(s)!",
+                controllers.size(),
+                commands.size() + buttons.size());
+
+        indexCommands();
+        indexButtons();
+        logConstraintDelegation();
+    }
+
+    private void indexCommands() {
+        for (SlashCommand.CommandScope scope : SlashCommand.CommandScope.values()) {
+            CommandTree tree = new CommandTree();
+            commands.stream().filter(it -> it.getCommandScope() == scope).forEach(tree::add);
+            commandTrees.put(scope, tree);
+        }
+    }
+
+    private void indexButtons() {
+        ButtonDefinition[] sorted = buttons.toArray(new ButtonDefinition[0]);
+        Arrays.sort(sorted, Comparator.comparingInt(ButtonDefinition::getComponentKey));
+        int[] keys = new int[sorted.length];
+        ButtonDefinition[] index = new ButtonDefinition[sorted.length];
+        int size = 0;
+        for (ButtonDefinition button : sorted) {
+            if (size > 0 && keys[size - 1] == button.getComponentKey()) {
+                throw new IllegalStateException(String.format(
+                        "Component key collision between %s and %s! Rename one of the methods",
+                        index[size - 1].getMethod(), button.getMethod()));
+            }
+            keys[size] = button.getComponentKey();
+            index[size] = button;
+            size++;
+        }
+        buttonKeys = Arrays.copyOf(keys, size);
+        buttonIndex = Arrays.copyOf(index, size);
+    }
+
+    private void logConstraintDelegation() {
+        int total = 0;
+        int delegated = 0;
+        for (CommandDefinition command : commands) {
+            for (ParameterDefinition parameter : command.getActualParameters()) {
+                for (ConstraintDefinition constraint : parameter.getConstraints()) {
+                    total++;
+                    if (!constraint.isDelegated()) {
+                        continue;
+                    }
+                    delegated++;
+                    log.debug("Constraint {} of parameter {} in command {} is enforced by Discord",
+                            ((Annotation) constraint.getAnnotation()).annotationType().getSimpleName(),
+                            parameter.getName(),
+                            command.getName());
+                }
+            }
+        }
+        if (total > 0) {
+            log.info("{} of {} parameter constraint(s) are enforced by Discord and will not be validated at runtime",
+                    delegated,
+                    total);
+        }
+    }
+
+    /**
+     * Gets a possibly-empty list of all {@link ControllerDefinition ControllerDefinitions}.
+     *
+     * @return a possibly-empty list of all {@link ControllerDefinition ControllerDefinitions}
+     */
+    public Set<ControllerDefinition> getControllers() {
+        return Collections.unmodifiableSet(controllers);
+    }
+
+    /**
+     * Gets the class of a registered controller by its name. Unlike {@link Class#forName(String)}, this never loads
+     * or initializes a class, thus it's safe to use with names read from untrusted sources.
+     *
+     * @param name the binary name of the controller class
+     * @return an {@link Optional} holding the controller class or an empty {@link Optional} if no controller with the
+     * given name is registered
+     */
+    public Optional<Class<?>> getControllerClass(@NotNull String name) {
+        return Optional.ofNullable(controllerClasses.get(name));
+    }
+
+    /**
+     * Gets a possibly-empty list of all {@link CommandDefinition CommandDefinitions}.
+     *
+     * @return a possibly-empty list of all {@link CommandDefinition CommandDefinitions}
+     */
+    public Set<CommandDefinition> getCommands() {
+        return Collections.unmodifiableSet(commands);
+    }
+
+    /**
+     * Gets the {@link CommandTree} of all commands with the given {@link SlashCommand.CommandScope}. The tree is built
+     * while {@link #index(Class, String...) indexing} the controllers.
+     *
+     * @param scope the {@link SlashCommand.CommandScope} of the commands
+     * @return the {@link CommandTree}
+     */
+    public CommandTree getCommandTree(@NotNull SlashCommand.CommandScope scope) {
+        return commandTrees.computeIfAbsent(scope, key -> new CommandTree());
+    }
+
+    /**
+     * Gets the {@link CommandDefinition} registered for the given full command name. This is a lookup in the
+     * {@link CommandTree CommandTrees} built while {@link #index(Class, String...) indexing} the controllers.
+     *
+     * @param name the full name of the command as sent by Discord
+     * @return an {@link Optional} holding the {@link CommandDefinition}
+     * @see CommandTree#find(String)
+     */
+    public Optional<CommandDefinition> getCommand(@NotNull String name) {
+        for (CommandTree tree : commandTrees.values()) {
+            Optional<CommandDefinition> command = tree.find(name);
+            if (command.isPresent()) {
+                return command;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Gets a possibly-empty list of all {@link ButtonDefinition ButtonDefinitions}.
+     *
+     * @return a possibly-empty list of all {@link ButtonDefinition ButtonDefinitions}
+     */
+    public Set<ButtonDefinition> getButtons() {
+        return Collections.unmodifiableSet(buttons);
+    }
+
+    /**
+     * Gets the {@link ButtonDefinition} with the given component key. This is a lookup in an index built while
+     * {@link #index(Class, String...) indexing} the controllers.
+     *
+     * @param key the component key of the button
+     * @return an {@link Optional} holding the {@link ButtonDefinition}
+     * @see ButtonDefinition#getComponentKey()
+     */
+    public Optional<ButtonDefinition> getButton(int key) {
+        int position = Arrays.binarySearch(buttonKeys, key);
+        return position < 0 ? Optional.empty() : Optional.of(buttonIndex[position]);
+    }
+
+    /**
+     * Gets the {@link ButtonDefinition} defined by the given method.
+     *
+     * @param controller the class defining the button
+     * @param method     the name of the button method
+     * @return an {@link Optional} holding the {@link ButtonDefinition}
+     */
+    public Optional<ButtonDefinition> getButton(@NotNull Class<?> controller, @NotNull String method) {
+        return getButton(ComponentIdCodec.key(controller, method));
+    }
+
+}
@@ -100,9 +100,11 @@ public class ParameterDefinition {
     private final String defaultValue;
     private final boolean isPrimitive;
     private final String name;
+    private final String optionName;
     private final String description;
     private final List<Choice> choices;
     private final List<ConstraintDefinition> constraints;
+    private final List<ConstraintDefinition> runtimeConstraints;
 
     private ParameterDefinition(@NotNull Class<?> type,
                                 boolean isOptional,
@@ -117,9 +119,16 @@ public class ParameterDefinition {
         this.defaultValue = defaultValue;
         this.isPrimitive = isPrimitive;
         this.name = name;
+        optionName = name.replaceAll("([a-z])([A-Z]+)", "$1_$2").toLowerCase();
         this.description = description;
         this.choices = choices;
         this.constraints = constraints;
+        runtimeConstraints = new ArrayList<>();
+        for (ConstraintDefinition constraint : constraints) {
+            if (!constraint.isDelegated()) {
+                runtimeConstraints.add(constraint);
+            }
+        }
     }
 
     /**
@@ -149,6 +158,7 @@ public class ParameterDefinition {
         }
 
         // index constraints
+        OptionType optionType = OPTION_TYPE_MAPPINGS.getOrDefault(parameterType, OptionType.STRING);
         List<ConstraintDefinition> constraints = new ArrayList<>();
         for (Annotation annotation : parameter.getAnnotations()) {
             Class<?> annotationType = annotation.annotationType();
@@ -169,7 +179,9 @@ public class ParameterDefinition {
 
             java.util.Optional<Validator> optional = registry.get(annotationType, parameterType);
             if (optional.isPresent()) {
-                constraints.add(new ConstraintDefinition(optional.get(), message, annotation));
+                // Discord only validates input that was actually provided, thus default values must still be checked
+                boolean delegated = !isOptional && isDiscordConstraint(annotation, optionType);
+                constraints.add(new ConstraintDefinition(optional.get(), message, annotation, delegated));
             }
         }
 
@@ -214,30 +226,49 @@ public class ParameterDefinition {
         );
     }
 
+    // Discord can only enforce min and max values on numeric options and only inside the range it supports
+    private static boolean isDiscordConstraint(Annotation annotation, OptionType optionType) {
+        if (optionType != OptionType.INTEGER && optionType != OptionType.NUMBER) {
+            return false;
+        }
+        long value;
+        if (annotation instanceof Min) {
+            value = ((Min) annotation).value();
+        } else if (annotation instanceof Max) {
+            value = ((Max) annotation).value();
+        } else {
+            return false;
+        }
+        return value >= OptionData.MIN_NEGATIVE_NUMBER && value <= OptionData.MAX_POSITIVE_NUMBER;
+    }
+
     /**
      * Transforms this parameter definition to a {@link OptionData}.
      *
      * @return the transformed {@link OptionData}
      */
     public OptionData toOptionData() {
-        String name = getName();
-        name = name.replaceAll("([a-z])([A-Z]+)", "$1_$2").toLowerCase();
+        OptionType optionType = OPTION_TYPE_MAPPINGS.getOrDefault(type, OptionType.STRING);
         OptionData optionData = new OptionData(
-                OPTION_TYPE_MAPPINGS.getOrDefault(type, OptionType.STRING),
-                name,
+                optionType,
+                optionName,
                 description,
                 !isOptional
         );
 
         optionData.addChoices(choices);
 
-        constraints.stream().filter(constraint ->
-                constraint.getAnnotation().getClass().isAssignableFrom(Min.class)
-        ).findFirst().ifPresent(constraint -> optionData.setMinValue(((Min) constraint.getAnnotation()).value()));
-
-        constraints.stream().filter(constraint ->
-                constraint.getAnnotation().getClass().isAssignableFrom(Max.class)
-        ).findFirst().ifPresent(constraint -> optionData.setMaxValue(((Max) constraint.getAnnotation()).value()));
+        for (ConstraintDefinition constraint : constraints) {
+            Object annotation = constraint.getAnnotation();
+            if (!isDiscordConstraint((Annotation) annotation, optionType)) {
+                continue;
+            }
+            if (annotation instanceof Min) {
+                optionData.setMinValue(((Min) annotation).value());
+            } else {
+                optionData.setMaxValue(((Max) annotation).value());
+            }
+        }
 
         java.util.Optional.ofNullable(CHANNEL_TYPE_RESTRICTIONS.get(type)).ifPresent(optionData::setChannelTypes);
 
@@ -292,6 +323,17 @@ public class ParameterDefinition {
         return constraints;
     }
 
+    /**
+     * Gets a possibly-empty list of {@link ConstraintDefinition ConstraintDefinitions} that must be validated at
+     * runtime. This excludes all constraints that are {@link ConstraintDefinition#isDelegated() delegated} to Discord.
+     *
+     * @return a possibly-empty list of {@link ConstraintDefinition ConstraintDefinitions} to validate at runtime
+     */
+    @NotNull
+    public List<ConstraintDefinition> getRuntimeConstraints() {
+        return runtimeConstraints;
+    }
+
     /**
      * Gets the parameter name.
      *
@@ -2,13 +2,23 @@ package com.github.kaktushose.jda.commands.reflect.interactions;
 
 import com.github.kaktushose.jda.commands.annotations.interactions.Button;
 import com.github.kaktushose.jda.commands.annotations.interactions.Interaction;
+import com.github.kaktushose.jda.commands.dispatching.ComponentIdCodec;
+import com.github.kaktushose.jda.commands.dispatching.ComponentStateCodec;
+import com.github.kaktushose.jda.commands.dispatching.RuntimeSupervisor.InteractionRuntime;
 import com.github.kaktushose.jda.commands.dispatching.buttons.ButtonEvent;
 import com.github.kaktushose.jda.commands.dispatching.commands.CommandContext;
 import net.dv8tion.jda.api.entities.emoji.Emoji;
 import net.dv8tion.jda.api.interactions.components.buttons.ButtonStyle;
 import org.jetbrains.annotations.NotNull;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -25,18 +35,29 @@ public class ButtonDefinition extends EphemeralInteraction {
     private final Emoji emoji;
     private final String link;
     private final ButtonStyle style;
+    private final MethodHandle handle;
+    private final int componentKey;
+    private final boolean stateless;
+    private final List<Field> stateFields;
 
     protected ButtonDefinition(Method method,
                                boolean ephemeral,
                                String label,
                                Emoji emoji,
                                String link,
-                               ButtonStyle style) {
+                               ButtonStyle style,
+                               MethodHandle handle,
+                               boolean stateless,
+                               List<Field> stateFields) {
         super(method, ephemeral);
         this.label = label;
         this.emoji = emoji;
         this.link = link;
         this.style = style;
+        this.handle = handle;
+        this.stateless = stateless;
+        this.stateFields = stateFields;
+        componentKey = ComponentIdCodec.key(method.getDeclaringClass(), method.getName());
     }
 
     /**
@@ -76,13 +97,42 @@ public class ButtonDefinition extends EphemeralInteraction {
             emoji = Emoji.fromFormatted(emojiString);
         }
 
+        MethodHandle handle;
+        try {
+            method.setAccessible(true);
+            handle = MethodHandles.lookup().unreflect(method)
+                    .asType(MethodType.methodType(void.class, Object.class, ButtonEvent.class));
+        } catch (IllegalAccessException | RuntimeException e) {
+            log.error("An error has occurred! Skipping Button {}.{}:",
+                    method.getDeclaringClass().getSimpleName(),
+                    method.getName(),
+                    e);
+            return Optional.empty();
+        }
+
+        List<Field> stateFields = Collections.emptyList();
+        if (button.stateless()) {
+            try {
+                stateFields = ComponentStateCodec.getStateFields(method.getDeclaringClass());
+            } catch (IllegalArgumentException e) {
+                log.error("An error has occurred! Skipping Button {}.{}:",
+                        method.getDeclaringClass().getSimpleName(),
+                        method.getName(),
+                        e);
+                return Optional.empty();
+            }
+        }
+
         return Optional.of(new ButtonDefinition(
                 method,
                 button.ephemeral(),
                 button.value(),
                 emoji,
                 button.link(),
-                button.style()
+                button.style(),
+                handle,
+                button.stateless(),
+                stateFields
         ));
     }
 
@@ -142,6 +192,61 @@ public class ButtonDefinition extends EphemeralInteraction {
         return style;
     }
 
+    /**
+     * Whether this button is stateless.
+     *
+     * @return {@code true} if this button is stateless
+     * @see Button#stateless()
+     */
+    public boolean isStateless() {
+        return stateless;
+    }
+
+    /**
+     * Gets the fields whose values are encoded into the custom id of this button. This is always empty if this button
+     * isn't {@link #isStateless() stateless}.
+     *
+     * @return a possibly-empty list of the state fields
+     * @see com.github.kaktushose.jda.commands.annotations.interactions.State State
+     */
+    @NotNull
+    public List<Field> getStateFields() {
+        return Collections.unmodifiableList(stateFields);
+    }
+
+    /**
+     * Invokes the button method. Prefers the {@link GeneratedInvoker} if present, else the method handle resolved
+     * when building this definition is used, thus no reflective lookups happen per click.
+     *
+     * @param instance the instance of the method defining class to invoke the method on
+     * @param event    the {@link ButtonEvent} to pass to the method
+     * @throws InvocationTargetException wrapping anything the button method throws, except for {@link Error Errors}
+     *                                   which are rethrown as they are
+     */
+    public void invoke(@NotNull Object instance, @NotNull ButtonEvent event) throws InvocationTargetException {
+        try {
+            if (invokerIndex >= 0) {
+                invoker.invoke(invokerIndex, instance, new Object[]{event});
+                return;
+            }
+            handle.invokeExact(instance, event);
+        } catch (Error error) {
+            throw error;
+        } catch (Throwable throwable) {
+            throw new InvocationTargetException(throwable);
+        }
+    }
+
+    /**
+     * Gets the key identifying this button inside of component ids.
+     *
+     * @return the component key
+     * @see ComponentIdCodec#key(Class, String)
+     */
+    public int getComponentKey() {
+        return componentKey;
+    }
+
     /**
      * Gets the runtime id. The runtime id is composed of the static interaction id and the
      * snowflake id of the interaction event that created the runtime.
@@ -151,7 +256,25 @@ public class ButtonDefinition extends EphemeralInteraction {
      */
     @NotNull
     public String getRuntimeId(CommandContext context) {
-        return String.format("%s.%s", getId(), context.getRuntime().getInstanceId());
+        return getRuntimeId(context.getRuntime());
+    }
+
+    /**
+     * Gets the runtime id. The runtime id is composed of the {@link #getComponentKey() component key} and the
+     * snowflake id of the interaction event that created the runtime, encoded by the {@link ComponentIdCodec}. If
+     * this button is {@link #isStateless() stateless}, the runtime id carries the state of the runtime instance
+     * instead of the snowflake id.
+     *
+     * @param runtime the {@link InteractionRuntime} the button refers to
+     * @return the runtime id
+     * @throws IllegalArgumentException if the encoded state exceeds {@link ComponentIdCodec#MAX_STATE_LENGTH}
+     */
+    @NotNull
+    public String getRuntimeId(InteractionRuntime runtime) {
+        if (stateless) {
+            return ComponentIdCodec.encode(componentKey, 0, ComponentStateCodec.encode(stateFields, runtime.getInstance()));
+        }
+        return ComponentIdCodec.encode(componentKey, runtime.getInstanceIdLong());
     }
 
     @Override
@@ -161,6 +284,7 @@ public class ButtonDefinition extends EphemeralInteraction {
                 ", emoji=" + emoji +
                 ", link='" + link + '\'' +
                 ", style=" + style +
+                ", stateless=" + stateless +
                 ", ephemeral=" + ephemeral +
                 ", id='" + id + '\'' +
                 ", method=" + method +
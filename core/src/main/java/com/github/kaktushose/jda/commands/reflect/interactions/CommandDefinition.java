@@ -15,6 +15,7 @@ import net.dv8tion.jda.api.interactions.commands.build.SubcommandData;
 import net.dv8tion.jda.api.interactions.commands.localization.LocalizationFunction;
 import org.jetbrains.annotations.NotNull;
 
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.util.*;
@@ -32,6 +33,7 @@ public class CommandDefinition extends EphemeralInteraction implements Comparabl
 
     private final String name;
     private final String description;
+    private final String commandDescription;
     private final List<ParameterDefinition> parameters;
     private final Set<String> permissions;
     private final Set<net.dv8tion.jda.api.Permission> enabledPermissions;
@@ -55,6 +57,7 @@ public class CommandDefinition extends EphemeralInteraction implements Comparabl
         super(method, ephemeral);
         this.name = name;
         this.description = description;
+        commandDescription = description.replaceAll("N/A", "no description");
         this.parameters = parameters;
         this.permissions = permissions;
         this.enabledPermissions = enabledPermissions;
@@ -173,10 +176,7 @@ public class CommandDefinition extends EphemeralInteraction implements Comparabl
      * @return the transformed {@link SlashCommandData}
      */
     public SlashCommandData toCommandData() {
-        SlashCommandData command = Commands.slash(
-                name,
-                description.replaceAll("N/A", "no description")
-        );
+        SlashCommandData command = Commands.slash(name, commandDescription);
         command.setGuildOnly(isGuildOnly)
                 .setNSFW(isNSFW)
                 .setLocalizationFunction(localizationFunction)
@@ -197,11 +197,7 @@ public class CommandDefinition extends EphemeralInteraction implements Comparabl
      * @return the transformed {@link SubcommandData}
      */
     public SubcommandData toSubCommandData(String label) {
-        SubcommandData command = new SubcommandData(
-                label,
-                description.replaceAll("N/A", "no description")
-
-        );
+        SubcommandData command = new SubcommandData(label, commandDescription);
         parameters.forEach(parameter -> {
             if (CommandEvent.class.isAssignableFrom(parameter.getType())) {
                 return;
@@ -321,6 +317,37 @@ public class CommandDefinition extends EphemeralInteraction implements Comparabl
         return method;
     }
 
+    /**
+     * Invokes the command method. Prefers the {@link GeneratedInvoker} if present.
+     *
+     * @param instance the instance of the method defining class to invoke the method on
+     * @param args     the arguments to invoke the method with
+     * @throws InvocationTargetException wrapping anything the method throws, except for {@link Error Errors} which
+     *                                   are rethrown as they are
+     * @throws IllegalAccessException    if the method is inaccessible
+     */
+    public void invoke(@NotNull Object instance, @NotNull Object[] args)
+            throws InvocationTargetException, IllegalAccessException {
+        if (invokerIndex < 0) {
+            try {
+                method.invoke(instance, args);
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw e;
+            }
+            return;
+        }
+        try {
+            invoker.invoke(invokerIndex, instance, args);
+        } catch (Error error) {
+            throw error;
+        } catch (Throwable throwable) {
+            throw new InvocationTargetException(throwable);
+        }
+    }
+
     @Override
     public String toString() {
         return "SlashCommandDefinition{" +
@@ -0,0 +1,64 @@
+package com.github.kaktushose.jda.commands.reflect.interactions;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Invoker generated at compile time by the jda-commands annotation processor for a class annotated with
+ * {@link com.github.kaktushose.jda.commands.annotations.interactions.Interaction Interaction}. It creates instances
+ * of the class and invokes its interaction methods through direct calls instead of reflection. If an invoker is
+ * present for a class, it will be preferred over reflection by the {@link GenericInteraction}. The invoker only covers
+ * construction and invocation, dependencies still get injected and arguments still get adapted at runtime.
+ *
+ * <p>The invoker of a class is expected to have the binary name of the class, with {@code $} replaced by {@code _},
+ * followed by {@link #SUFFIX} and to provide a public no-arg constructor.
+ *
+ * @author Kaktushose
+ * @version 4.0.0
+ * @since 4.0.0
+ */
+public interface GeneratedInvoker {
+
+    /**
+     * The suffix appended to the name of the class to get the name of its invoker.
+     */
+    String SUFFIX = "_Invoker";
+
+    /**
+     * Creates a new instance of the interaction class.
+     *
+     * @return a new instance of the interaction class
+     * @throws Throwable anything the constructor throws
+     */
+    @NotNull
+    Object newInstance() throws Throwable;
+
+    /**
+     * Gets the index of an interaction method.
+     *
+     * @param method the name of the interaction method
+     * @return the index of the interaction method or {@code -1} if the method cannot be invoked by this invoker
+     */
+    int indexOf(@NotNull String method);
+
+    /**
+     * Invokes an interaction method.
+     *
+     * @param index    the index of the interaction method as returned by {@link #indexOf(String)}
+     * @param instance the instance to invoke the method on
+     * @param args     the arguments to invoke the method with
+     * @throws Throwable anything the interaction method throws
+     */
+    void invoke(int index, @NotNull Object instance, @NotNull Object[] args) throws Throwable;
+
+    /**
+     * Gets the name of the invoker of a class.
+     *
+     * @param binaryName the binary name of the class
+     * @return the binary name of the invoker
+     */
+    @NotNull
+    static String nameOf(@NotNull String binaryName) {
+        int packageEnd = binaryName.lastIndexOf('.') + 1;
+        return binaryName.substring(0, packageEnd) + binaryName.substring(packageEnd).replace('$', '_') + SUFFIX;
+    }
+}
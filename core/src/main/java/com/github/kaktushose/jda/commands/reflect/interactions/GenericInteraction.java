@@ -0,0 +1,137 @@
+package com.github.kaktushose.jda.commands.reflect.interactions;
+
+import com.github.kaktushose.jda.commands.annotations.interactions.Interaction;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Abstract base class for all interaction definitions.
+ *
+ * @author Kaktushose
+ * @version 4.0.0
+ * @since 4.0.0
+ */
+public abstract class GenericInteraction {
+
+    protected static final Logger log = LoggerFactory.getLogger(GenericInteraction.class);
+    private static final ClassValue<Optional<GeneratedInvoker>> INVOKERS = new ClassValue<>() {
+        @Override
+        protected Optional<GeneratedInvoker> computeValue(Class<?> type) {
+            try {
+                Class<?> invoker = Class.forName(GeneratedInvoker.nameOf(type.getName()), true, type.getClassLoader());
+                if (!GeneratedInvoker.class.isAssignableFrom(invoker)) {
+                    return Optional.empty();
+                }
+                log.debug("Using generated invoker {}", invoker.getName());
+                return Optional.of((GeneratedInvoker) invoker.getConstructor().newInstance());
+            } catch (ClassNotFoundException ignored) {
+                return Optional.empty();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                log.warn("Unable to load generated invoker of {}! Falling back to reflection", type.getName(), e);
+                return Optional.empty();
+            }
+        }
+    };
+
+    protected final String id;
+    protected final Method method;
+    protected final long runtimeTimeout;
+    protected final Interaction.InstanceScope scope;
+    protected final GeneratedInvoker invoker;
+    protected final int invokerIndex;
+
+    protected GenericInteraction(Method method) {
+        this.id = String.format("%s.%s", method.getDeclaringClass().getSimpleName(), method.getName());
+        this.method = method;
+        Interaction interaction = method.getDeclaringClass().getAnnotation(Interaction.class);
+        if (interaction == null) {
+            runtimeTimeout = TimeUnit.MINUTES.toMillis(15);
+            scope = Interaction.InstanceScope.INVOCATION;
+        } else {
+            runtimeTimeout = interaction.timeoutUnit().toMillis(interaction.timeout());
+            scope = interaction.scope();
+        }
+        invoker = INVOKERS.get(method.getDeclaringClass()).orElse(null);
+        invokerIndex = invoker == null ? -1 : invoker.indexOf(method.getName());
+    }
+
+    /**
+     * Returns the id of the interaction.
+     *
+     * @return the id of the interaction
+     */
+    @NotNull
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets the {@link Method} of the interaction.
+     *
+     * @return the {@link Method} of the interaction
+     */
+    @NotNull
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Gets the time in milliseconds the runtime of this interaction will be kept alive.
+     *
+     * @return the runtime timeout in milliseconds
+     * @see Interaction#timeout()
+     */
+    public long getRuntimeTimeout() {
+        return runtimeTimeout;
+    }
+
+    /**
+     * Gets the {@link Interaction.InstanceScope InstanceScope} of the method defining class.
+     *
+     * @return the {@link Interaction.InstanceScope InstanceScope}
+     * @see Interaction#scope()
+     */
+    @NotNull
+    public Interaction.InstanceScope getScope() {
+        return scope;
+    }
+
+    /**
+     * Whether a {@link GeneratedInvoker} is present for this interaction. If so, instances get created and the method
+     * gets invoked without reflection.
+     *
+     * @return {@code true} if a {@link GeneratedInvoker} is present
+     */
+    public boolean hasGeneratedInvoker() {
+        return invokerIndex >= 0;
+    }
+
+    /**
+     * Gets a new instance of the method defining class. Prefers the {@link GeneratedInvoker} if present.
+     *
+     * @return a new instance of the method defining class
+     * @throws InvocationTargetException if the underlying constructor throws an exception
+     * @throws InstantiationException    if the class that declares the underlying constructor represents an abstract class
+     * @throws IllegalAccessException    if this Constructor object is enforcing Java language access control and
+     *                                   the underlying constructor is inaccessible
+     */
+    @NotNull
+    public Object newInstance() throws InvocationTargetException, InstantiationException, IllegalAccessException {
+        if (invoker != null) {
+            try {
+                return invoker.newInstance();
+            } catch (Error error) {
+                throw error;
+            } catch (Throwable throwable) {
+                throw new InvocationTargetException(throwable);
+            }
+        }
+        return method.getDeclaringClass().getConstructors()[0].newInstance();
+    }
+}
@@ -2,7 +2,11 @@ package com.github.kaktushose.jda.commands.scope;
 
 import net.dv8tion.jda.api.interactions.commands.build.CommandData;
 
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -20,4 +24,14 @@ public class DefaultGuildScopeProvider implements GuildScopeProvider {
         return Collections.emptySet();
     }
 
+    @Override
+    public Map<Long, BitSet> getCommandsForGuilds(List<CommandData> commands) {
+        return Collections.emptyMap();
+    }
+
+    @Override
+    public Map<Long, BitSet> getCommandsForGuilds(List<CommandData> commands, Collection<Long> guildIds) {
+        return Collections.emptyMap();
+    }
+
 }
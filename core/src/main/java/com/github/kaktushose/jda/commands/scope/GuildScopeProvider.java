@@ -0,0 +1,104 @@
+package com.github.kaktushose.jda.commands.scope;
+
+import net.dv8tion.jda.api.interactions.commands.build.CommandData;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Interface for declaring on which Guilds a guild scoped command should be registered.
+ *
+ * <p>Implementations managing a large amount of guilds should override {@link #getCommandsForGuilds(List)}, which
+ * resolves the scope of all commands at once, and {@link #getCommandsForGuild(List, long)}, which resolves the scope
+ * of a newly joined guild.
+ *
+ * @author Kaktushose
+ * @version 4.0.0
+ * @see DefaultGuildScopeProvider
+ * @since 4.0.0
+ */
+public interface GuildScopeProvider {
+
+    /**
+     * Gets a Set of guild ids the provided command should be registered for.
+     *
+     * @param commandData a copy of the {@link CommandData} to register
+     * @return a Set of guild ids the provided command should be registered for
+     */
+    Set<Long> getGuildsForCommand(CommandData commandData);
+
+    /**
+     * Gets the commands each guild should have registered. The commands are referenced by their index in the given
+     * list, thus a guild having the commands {@code 0} and {@code 2} maps to a {@link BitSet} with the bits {@code 0}
+     * and {@code 2} set. Guilds that aren't present in the map won't have any guild scoped commands.
+     *
+     * <p>Guilds with the same commands may share the same {@link BitSet} instance. The returned BitSets must not be
+     * modified afterwards. Guilds with equal BitSets share a single payload and hash during the deployment.
+     *
+     * <p>The default implementation calls {@link #getGuildsForCommand(CommandData)} once per command.
+     *
+     * @param commands an unmodifiable list of copies of the {@link CommandData} to register
+     * @return a map of guild ids and the indices of the commands to register for that guild
+     */
+    default Map<Long, BitSet> getCommandsForGuilds(List<CommandData> commands) {
+        Map<Long, BitSet> result = new HashMap<>();
+        for (int i = 0; i < commands.size(); i++) {
+            for (Long guildId : getGuildsForCommand(commands.get(i))) {
+                result.computeIfAbsent(guildId, key -> new BitSet(commands.size())).set(i);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the commands the given guilds should have registered. This is called when only some guilds need to be
+     * updated, e.g. when the scope of a command changed. See {@link #getCommandsForGuilds(List)} for the format of the
+     * result.
+     *
+     * <p>The default implementation calls {@link #getGuildsForCommand(CommandData)} once per command and only keeps
+     * the given guilds.
+     *
+     * @param commands an unmodifiable list of copies of the {@link CommandData} to register
+     * @param guildIds the ids of the guilds to get the commands for
+     * @return a map of guild ids and the indices of the commands to register for that guild
+     */
+    default Map<Long, BitSet> getCommandsForGuilds(List<CommandData> commands, Collection<Long> guildIds) {
+        Set<Long> requested = new HashSet<>(guildIds);
+        Map<Long, BitSet> result = new HashMap<>();
+        for (int i = 0; i < commands.size(); i++) {
+            for (Long guildId : getGuildsForCommand(commands.get(i))) {
+                if (requested.contains(guildId)) {
+                    result.computeIfAbsent(guildId, key -> new BitSet(commands.size())).set(i);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the commands a single guild should have registered. This is called when a guild gets joined. See
+     * {@link #getCommandsForGuilds(List)} for the format of the result.
+     *
+     * <p>The default implementation calls {@link #getGuildsForCommand(CommandData)} once per command, thus
+     * implementations that can look up single guilds cheaply should override this method.
+     *
+     * @param commands an unmodifiable list of copies of the {@link CommandData} to register
+     * @param guildId  the id of the guild to get the commands for
+     * @return the indices of the commands to register for the guild, empty if the guild has no guild scoped commands
+     */
+    default BitSet getCommandsForGuild(List<CommandData> commands, long guildId) {
+        BitSet result = new BitSet(commands.size());
+        for (int i = 0; i < commands.size(); i++) {
+            if (getGuildsForCommand(commands.get(i)).contains(guildId)) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+}
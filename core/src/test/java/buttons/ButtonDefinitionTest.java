@@ -0,0 +1,92 @@
+package buttons;
+
+import com.github.kaktushose.jda.commands.dispatching.buttons.ButtonEvent;
+import com.github.kaktushose.jda.commands.reflect.interactions.ButtonDefinition;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ButtonDefinitionTest {
+
+    private static final Class<?> controller = ButtonDefinitionTestController.class;
+
+    @Test
+    public void method_withoutAnnotation_ShouldReturnEmpty() throws NoSuchMethodException {
+        Method method = controller.getDeclaredMethod("noAnnotation", ButtonEvent.class);
+
+        assertTrue(ButtonDefinition.build(method).isEmpty());
+    }
+
+    @Test
+    public void method_withoutArgs_ShouldReturnEmpty() throws NoSuchMethodException {
+        Method method = controller.getDeclaredMethod("noArgs");
+
+        assertTrue(ButtonDefinition.build(method).isEmpty());
+    }
+
+    @Test
+    public void method_withWrongType_ShouldReturnEmpty() throws NoSuchMethodException {
+        Method method = controller.getDeclaredMethod("wrongType", Object.class);
+
+        assertTrue(ButtonDefinition.build(method).isEmpty());
+    }
+
+    @Test
+    public void invoke_withValidMethod_ShouldCallMethod() throws Throwable {
+        Method method = controller.getDeclaredMethod("click", ButtonEvent.class);
+        ButtonDefinitionTestController instance = new ButtonDefinitionTestController();
+
+        Optional<ButtonDefinition> definition = ButtonDefinition.build(method);
+        assertTrue(definition.isPresent());
+        assertEquals("ButtonDefinitionTestController.click", definition.get().getId());
+        definition.get().invoke(instance, null);
+
+        assertEquals(1, instance.clicks);
+    }
+
+    @Test
+    public void invoke_withReturnValue_ShouldIgnoreReturnValue() throws Throwable {
+        Method method = controller.getDeclaredMethod("returnValue", ButtonEvent.class);
+        ButtonDefinitionTestController instance = new ButtonDefinitionTestController();
+
+        ButtonDefinition.build(method).orElseThrow().invoke(instance, null);
+
+        assertEquals(1, instance.clicks);
+    }
+
+    @Test
+    public void invoke_withGeneratedInvoker_ShouldPreferGeneratedInvoker() throws Throwable {
+        Method method = GeneratedTestController.class.getDeclaredMethod("click", ButtonEvent.class);
+        ButtonDefinition definition = ButtonDefinition.build(method).orElseThrow();
+
+        GeneratedTestController instance = (GeneratedTestController) definition.newInstance();
+        definition.invoke(instance, null);
+
+        assertTrue(definition.hasGeneratedInvoker());
+        assertEquals(1, instance.generatedClicks);
+        assertEquals(0, instance.clicks);
+    }
+
+    @Test
+    public void invoke_withThrowingMethod_ShouldWrapException() throws NoSuchMethodException {
+        Method method = controller.getDeclaredMethod("throwException", ButtonEvent.class);
+        ButtonDefinition definition = ButtonDefinition.build(method).orElseThrow();
+
+        InvocationTargetException exception = assertThrows(InvocationTargetException.class,
+                () -> definition.invoke(new ButtonDefinitionTestController(), null));
+
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+
+    @Test
+    public void invoke_withMethodThrowingError_ShouldRethrowError() throws NoSuchMethodException {
+        Method method = controller.getDeclaredMethod("throwError", ButtonEvent.class);
+        ButtonDefinition definition = ButtonDefinition.build(method).orElseThrow();
+
+        assertThrows(AssertionError.class, () -> definition.invoke(new ButtonDefinitionTestController(), null));
+    }
+}
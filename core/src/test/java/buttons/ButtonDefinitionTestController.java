@@ -0,0 +1,46 @@
+package buttons;
+
+import com.github.kaktushose.jda.commands.annotations.interactions.Button;
+import com.github.kaktushose.jda.commands.annotations.interactions.Interaction;
+import com.github.kaktushose.jda.commands.dispatching.buttons.ButtonEvent;
+
+@Interaction
+public class ButtonDefinitionTestController {
+
+    public int clicks;
+
+    public void noAnnotation(ButtonEvent event) {
+
+    }
+
+    @Button
+    public void noArgs() {
+
+    }
+
+    @Button
+    public void wrongType(Object event) {
+
+    }
+
+    @Button("label")
+    public void click(ButtonEvent event) {
+        clicks++;
+    }
+
+    @Button
+    public String returnValue(ButtonEvent event) {
+        clicks++;
+        return "ignored";
+    }
+
+    @Button
+    public void throwException(ButtonEvent event) {
+        throw new IllegalStateException("button failed");
+    }
+
+    @Button
+    public void throwError(ButtonEvent event) {
+        throw new AssertionError("fatal");
+    }
+}
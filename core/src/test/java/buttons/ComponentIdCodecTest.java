@@ -0,0 +1,62 @@
+package buttons;
+
+import com.github.kaktushose.jda.commands.dispatching.ComponentIdCodec;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ComponentIdCodecTest {
+
+    private static final long SNOWFLAKE = 1093842947363287091L;
+
+    @Test
+    public void decode_withEncodedId_ShouldReturnKeyAndRuntime() {
+        int key = ComponentIdCodec.key(ButtonDefinitionTestController.class, "click");
+
+        String id = ComponentIdCodec.encode(key, SNOWFLAKE);
+
+        assertEquals(ComponentIdCodec.LENGTH, id.length());
+        assertTrue(ComponentIdCodec.isValid(id));
+        assertEquals(key, ComponentIdCodec.decodeKey(id));
+        assertEquals(SNOWFLAKE, ComponentIdCodec.decodeRuntimeId(id));
+        assertEquals("", ComponentIdCodec.decodeState(id));
+    }
+
+    @Test
+    public void decode_withNegativeKeyAndMaxRuntime_ShouldRoundTrip() {
+        String id = ComponentIdCodec.encode(Integer.MIN_VALUE, -1L);
+
+        assertEquals(Integer.MIN_VALUE, ComponentIdCodec.decodeKey(id));
+        assertEquals(-1L, ComponentIdCodec.decodeRuntimeId(id));
+    }
+
+    @Test
+    public void decode_withState_ShouldReturnState() {
+        String id = ComponentIdCodec.encode(42, SNOWFLAKE, "page=2");
+
+        assertEquals(42, ComponentIdCodec.decodeKey(id));
+        assertEquals("page=2", ComponentIdCodec.decodeState(id));
+    }
+
+    @Test
+    public void encode_withTooLongState_ShouldThrow() {
+        String state = "x".repeat(ComponentIdCodec.MAX_STATE_LENGTH + 1);
+
+        assertThrows(IllegalArgumentException.class, () -> ComponentIdCodec.encode(42, SNOWFLAKE, state));
+    }
+
+    @Test
+    public void isValid_withForeignId_ShouldReturnFalse() {
+        assertFalse(ComponentIdCodec.isValid("ButtonDefinitionTestController.click.1093842947363287091"));
+        assertFalse(ComponentIdCodec.isValid("~short"));
+        assertFalse(ComponentIdCodec.isValid("~ABCDEF.ABCDEFGHIJK"));
+    }
+
+    @Test
+    public void key_withSameSimpleName_ShouldDiffer() {
+        assertNotEquals(
+                ComponentIdCodec.key(java.util.List.class, "click"),
+                ComponentIdCodec.key(java.awt.List.class, "click")
+        );
+    }
+}
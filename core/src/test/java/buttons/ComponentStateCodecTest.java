@@ -0,0 +1,116 @@
+package buttons;
+
+import com.github.kaktushose.jda.commands.dispatching.ComponentIdCodec;
+import com.github.kaktushose.jda.commands.dispatching.ComponentStateCodec;
+import com.github.kaktushose.jda.commands.dispatching.RuntimeSupervisor.InteractionRuntime;
+import com.github.kaktushose.jda.commands.dispatching.buttons.ButtonEvent;
+import com.github.kaktushose.jda.commands.reflect.interactions.ButtonDefinition;
+import net.dv8tion.jda.api.interactions.components.buttons.ButtonStyle;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ComponentStateCodecTest {
+
+    private static final List<Field> fields = ComponentStateCodec.getStateFields(StatelessTestController.class);
+
+    @Test
+    public void getStateFields_withAnnotatedFields_ShouldReturnSortedStateFields() {
+        assertEquals(6, fields.size());
+        assertEquals("flag", fields.get(0).getName());
+        assertEquals("target", fields.get(5).getName());
+    }
+
+    @Test
+    public void decode_withEncodedState_ShouldRestoreFields() {
+        StatelessTestController source = new StatelessTestController();
+        source.page = -3;
+        source.target = 1093842947363287091L;
+        source.query = "a.b!c%d";
+        source.flag = null;
+        source.ratio = 0.75;
+        source.style = ButtonStyle.DANGER;
+        source.notState = "ignored";
+
+        String state = ComponentStateCodec.encode(fields, source);
+        StatelessTestController target = new StatelessTestController();
+        ComponentStateCodec.decode(state, fields, target);
+
+        assertEquals(-3, target.page);
+        assertEquals(1093842947363287091L, target.target);
+        assertEquals("a.b!c%d", target.query);
+        assertNull(target.flag);
+        assertEquals(0.75, target.ratio);
+        assertEquals(ButtonStyle.DANGER, target.style);
+        assertNull(target.notState);
+    }
+
+    @Test
+    public void decode_withMismatchingState_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ComponentStateCodec.decode("A.B", fields, new StatelessTestController()));
+    }
+
+    @Test
+    public void decode_withInvalidEnumOrdinal_ShouldThrow() {
+        StatelessTestController source = new StatelessTestController();
+        source.style = ButtonStyle.PRIMARY;
+        String state = ComponentStateCodec.encode(fields, source);
+        String[] values = state.split("\\.");
+        values[4] = "ZZ";
+
+        assertThrows(IllegalArgumentException.class,
+                () -> ComponentStateCodec.decode(String.join(".", values), fields, new StatelessTestController()));
+    }
+
+    @Test
+    public void getStateFields_withSuperclass_ShouldIncludeInheritedFields() {
+        List<Field> inherited = ComponentStateCodec.getStateFields(InheritedStatelessTestController.class);
+
+        assertEquals(8, inherited.size());
+        assertEquals("letter", inherited.get(1).getName());
+        assertEquals(InheritedStatelessTestController.class, inherited.get(2).getDeclaringClass());
+        assertEquals(StatelessTestController.class, inherited.get(3).getDeclaringClass());
+    }
+
+    @Test
+    public void decode_withInheritedFields_ShouldRestoreFields() {
+        List<Field> inherited = ComponentStateCodec.getStateFields(InheritedStatelessTestController.class);
+        InheritedStatelessTestController source = new InheritedStatelessTestController();
+        source.letter = '\uFFFF';
+        source.page = 1;
+        ((StatelessTestController) source).page = 2;
+        source.query = "query";
+
+        String state = ComponentStateCodec.encode(inherited, source);
+        InheritedStatelessTestController target = new InheritedStatelessTestController();
+        ComponentStateCodec.decode(state, inherited, target);
+
+        assertEquals('\uFFFF', target.letter);
+        assertEquals(1, target.page);
+        assertEquals(2, ((StatelessTestController) target).page);
+        assertEquals("query", target.query);
+    }
+
+    @Test
+    public void getRuntimeId_withStatelessButton_ShouldCarryState() throws NoSuchMethodException {
+        ButtonDefinition button = ButtonDefinition.build(
+                StatelessTestController.class.getDeclaredMethod("next", ButtonEvent.class)
+        ).orElseThrow();
+        StatelessTestController instance = new StatelessTestController();
+        instance.page = 7;
+        instance.query = "";
+
+        String id = button.getRuntimeId(new InteractionRuntime("1", instance));
+
+        assertTrue(button.isStateless());
+        assertTrue(ComponentIdCodec.isValid(id));
+        assertEquals(button.getComponentKey(), ComponentIdCodec.decodeKey(id));
+        StatelessTestController restored = new StatelessTestController();
+        ComponentStateCodec.decode(ComponentIdCodec.decodeState(id), button.getStateFields(), restored);
+        assertEquals(7, restored.page);
+    }
+}
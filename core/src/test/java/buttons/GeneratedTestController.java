@@ -0,0 +1,17 @@
+package buttons;
+
+import com.github.kaktushose.jda.commands.annotations.interactions.Button;
+import com.github.kaktushose.jda.commands.annotations.interactions.Interaction;
+import com.github.kaktushose.jda.commands.dispatching.buttons.ButtonEvent;
+
+@Interaction
+public class GeneratedTestController {
+
+    public int clicks;
+    public int generatedClicks;
+
+    @Button
+    public void click(ButtonEvent event) {
+        clicks++;
+    }
+}
@@ -0,0 +1,22 @@
+package buttons;
+
+import com.github.kaktushose.jda.commands.reflect.interactions.GeneratedInvoker;
+
+// hand-written counterpart of what the annotation processor would generate
+public final class GeneratedTestController_Invoker implements GeneratedInvoker {
+
+    @Override
+    public Object newInstance() {
+        return new GeneratedTestController();
+    }
+
+    @Override
+    public int indexOf(String method) {
+        return "click".equals(method) ? 0 : -1;
+    }
+
+    @Override
+    public void invoke(int index, Object instance, Object[] args) {
+        ((GeneratedTestController) instance).generatedClicks++;
+    }
+}
@@ -0,0 +1,14 @@
+package buttons;
+
+import com.github.kaktushose.jda.commands.annotations.interactions.Interaction;
+import com.github.kaktushose.jda.commands.annotations.interactions.State;
+
+@Interaction
+public class InheritedStatelessTestController extends StatelessTestController {
+
+    @State
+    public char letter;
+
+    @State
+    public int page;
+}
@@ -0,0 +1,36 @@
+package buttons;
+
+import com.github.kaktushose.jda.commands.annotations.interactions.Button;
+import com.github.kaktushose.jda.commands.annotations.interactions.Interaction;
+import com.github.kaktushose.jda.commands.annotations.interactions.State;
+import com.github.kaktushose.jda.commands.dispatching.buttons.ButtonEvent;
+import net.dv8tion.jda.api.interactions.components.buttons.ButtonStyle;
+
+@Interaction
+public class StatelessTestController {
+
+    @State
+    public int page;
+
+    @State
+    public long target;
+
+    @State
+    public String query;
+
+    @State
+    public Boolean flag;
+
+    @State
+    public double ratio;
+
+    @State
+    public ButtonStyle style;
+
+    public String notState;
+
+    @Button(stateless = true)
+    public void next(ButtonEvent event) {
+
+    }
+}
@@ -0,0 +1,20 @@
+package collision;
+
+import com.github.kaktushose.jda.commands.annotations.interactions.Button;
+import com.github.kaktushose.jda.commands.annotations.interactions.Interaction;
+import com.github.kaktushose.jda.commands.dispatching.buttons.ButtonEvent;
+
+@Interaction
+public class CollidingTestController {
+
+    // both names hash to the same component key
+    @Button
+    public void clickahvish(ButtonEvent event) {
+
+    }
+
+    @Button
+    public void clickbcssaa(ButtonEvent event) {
+
+    }
+}
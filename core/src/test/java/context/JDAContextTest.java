@@ -0,0 +1,54 @@
+package context;
+
+import adapting.mock.JDAMock;
+import com.github.kaktushose.jda.commands.JDAContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JDAContextTest {
+
+    @Test
+    public void performTaskParallel_withJDA_ShouldRunOnce() {
+        JDAContext context = new JDAContext(new JDAMock());
+        AtomicInteger count = new AtomicInteger();
+
+        context.performTaskParallel(jda -> count.incrementAndGet());
+
+        assertEquals(1, count.get());
+    }
+
+    @Test
+    public void performTaskAsync_withJDA_ShouldComplete() {
+        JDAContext context = new JDAContext(new JDAMock());
+        AtomicInteger count = new AtomicInteger();
+
+        context.performTaskAsync(jda -> count.incrementAndGet(), Runnable::run).join();
+
+        assertEquals(1, count.get());
+    }
+
+    @Test
+    public void performTaskAsync_withThrowingTask_ShouldCompleteExceptionally() {
+        JDAContext context = new JDAContext(new JDAMock());
+
+        CompletableFuture<Void> future = context.performTaskAsync(jda -> {
+            throw new IllegalStateException();
+        });
+
+        CompletionException exception = assertThrows(CompletionException.class, future::join);
+        assertTrue(exception.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void performTaskAsync_withUnknownObject_ShouldThrow() {
+        JDAContext context = new JDAContext(new Object());
+
+        assertThrows(IllegalArgumentException.class, () -> context.performTaskAsync(jda -> {
+        }));
+    }
+}
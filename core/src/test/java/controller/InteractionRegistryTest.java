@@ -0,0 +1,51 @@
+package controller;
+
+import com.github.kaktushose.jda.commands.dependency.DependencyInjector;
+import com.github.kaktushose.jda.commands.dispatching.validation.ValidatorRegistry;
+import com.github.kaktushose.jda.commands.reflect.ClassIndex;
+import com.github.kaktushose.jda.commands.reflect.InteractionRegistry;
+import com.github.kaktushose.jda.commands.reflect.interactions.CommandDefinition;
+import net.dv8tion.jda.api.interactions.commands.localization.LocalizationFunction;
+import net.dv8tion.jda.api.interactions.commands.localization.ResourceBundleLocalizationFunction;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InteractionRegistryTest {
+
+    private static final LocalizationFunction LOCALIZATION_FUNCTION = ResourceBundleLocalizationFunction.empty().build();
+
+    @Test
+    public void index_inParallel_ShouldBeDeterministic() {
+        ClassIndex index = ClassIndex.scan(InteractionRegistryTest.class, "controller", "buttons");
+
+        List<String> first = index(index);
+        List<String> second = index(index);
+
+        assertFalse(first.isEmpty());
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void index_withComponentKeyCollision_ShouldThrow() {
+        ClassIndex index = ClassIndex.scan(InteractionRegistryTest.class, "collision");
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> index(index));
+
+        assertTrue(exception.getMessage().contains("clickahvish"));
+        assertTrue(exception.getMessage().contains("clickbcssaa"));
+    }
+
+    private List<String> index(ClassIndex index) {
+        InteractionRegistry registry = new InteractionRegistry(
+                new ValidatorRegistry(),
+                new DependencyInjector(),
+                LOCALIZATION_FUNCTION
+        );
+        registry.index(index);
+        return registry.getCommands().stream().map(CommandDefinition::getId).collect(Collectors.toList());
+    }
+}
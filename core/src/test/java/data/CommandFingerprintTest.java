@@ -0,0 +1,40 @@
+package data;
+
+import com.github.kaktushose.jda.commands.data.CommandFingerprint;
+import net.dv8tion.jda.api.interactions.commands.OptionType;
+import net.dv8tion.jda.api.interactions.commands.build.Commands;
+import net.dv8tion.jda.api.interactions.commands.build.SlashCommandData;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CommandFingerprintTest {
+
+    @Test
+    public void of_withDifferentOrder_ShouldReturnSameHash() {
+        SlashCommandData first = Commands.slash("first", "first command");
+        SlashCommandData second = Commands.slash("second", "second command").addOption(OptionType.STRING, "text", "text");
+
+        assertEquals(CommandFingerprint.of(Arrays.asList(first, second)), CommandFingerprint.of(Arrays.asList(second, first)));
+    }
+
+    @Test
+    public void of_withEqualCopies_ShouldReturnSameHash() {
+        SlashCommandData command = Commands.slash("command", "description").addOption(OptionType.INTEGER, "number", "number");
+
+        assertEquals(CommandFingerprint.of(Arrays.asList(command)),
+                CommandFingerprint.of(Arrays.asList(SlashCommandData.fromData(command.toData()))));
+    }
+
+    @Test
+    public void of_withChangedCommand_ShouldReturnDifferentHash() {
+        SlashCommandData command = Commands.slash("command", "description");
+        String hash = CommandFingerprint.of(Arrays.asList(command));
+
+        command.setDescription("changed");
+
+        assertNotEquals(hash, CommandFingerprint.of(Arrays.asList(command)));
+    }
+}
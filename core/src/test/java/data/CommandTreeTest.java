@@ -0,0 +1,67 @@
+package data;
+
+import com.github.kaktushose.jda.commands.data.CommandTree;
+import com.github.kaktushose.jda.commands.dispatching.validation.ValidatorRegistry;
+import com.github.kaktushose.jda.commands.reflect.interactions.CommandDefinition;
+import net.dv8tion.jda.api.interactions.commands.localization.ResourceBundleLocalizationFunction;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CommandTreeTest {
+
+    private static CommandTree tree;
+
+    @BeforeAll
+    public static void setup() {
+        tree = new CommandTree();
+        ValidatorRegistry validator = new ValidatorRegistry();
+        for (Method method : CommandTreeTestController.class.getDeclaredMethods()) {
+            CommandDefinition.build(method, validator, ResourceBundleLocalizationFunction.empty().build())
+                    .ifPresent(tree::add);
+        }
+    }
+
+    @Test
+    public void sanitize_withInvalidChars_ShouldRemoveThem() {
+        assertEquals("greet_user", CommandTree.sanitize("Greet User!"));
+        assertEquals("a-b_c1", CommandTree.sanitize("a-b_c1ä"));
+    }
+
+    @Test
+    public void find_withSanitizedName_ShouldReturnCommand() {
+        Optional<CommandDefinition> command = tree.find("greet");
+
+        assertTrue(command.isPresent());
+        assertEquals("greet", command.get().getMethod().getName());
+    }
+
+    @Test
+    public void find_withSubcommand_ShouldReturnCommand() {
+        assertEquals("ban", tree.find("admin ban").map(it -> it.getMethod().getName()).orElse(null));
+        assertEquals("kick", tree.find("admin kick").map(it -> it.getMethod().getName()).orElse(null));
+    }
+
+    @Test
+    public void find_withParentOrUnknownName_ShouldReturnEmpty() {
+        assertEquals(Optional.empty(), tree.find("admin"));
+        assertEquals(Optional.empty(), tree.find("admin unknown"));
+        assertEquals(Optional.empty(), tree.find("unknown"));
+    }
+
+    @Test
+    public void getNames_withSubcommands_ShouldReturnLeafLabels() {
+        assertTrue(tree.getNames().containsAll(Arrays.asList("admin ban", "admin kick")));
+    }
+
+    @Test
+    public void getCommands_calledTwice_ShouldReturnSamePayload() {
+        assertSame(tree.getCommands(), tree.getCommands());
+        assertThrows(UnsupportedOperationException.class, () -> tree.getCommands().clear());
+    }
+}
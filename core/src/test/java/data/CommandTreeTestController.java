@@ -0,0 +1,21 @@
+package data;
+
+import com.github.kaktushose.jda.commands.annotations.interactions.Interaction;
+import com.github.kaktushose.jda.commands.annotations.interactions.SlashCommand;
+import com.github.kaktushose.jda.commands.dispatching.commands.CommandEvent;
+
+@Interaction
+public class CommandTreeTestController {
+
+    @SlashCommand("Greet!")
+    public void greet(CommandEvent event) {
+    }
+
+    @SlashCommand("admin ban")
+    public void ban(CommandEvent event) {
+    }
+
+    @SlashCommand("admin kick")
+    public void kick(CommandEvent event) {
+    }
+}
@@ -0,0 +1,117 @@
+package data;
+
+import com.github.kaktushose.jda.commands.data.ConcurrentLongMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentLongMapTest {
+
+    @Test
+    public void get_withPutKey_ShouldReturnValue() {
+        ConcurrentLongMap<String> map = new ConcurrentLongMap<>();
+
+        assertNull(map.put(1, "a"));
+        assertEquals("a", map.put(1, "b"));
+
+        assertEquals("b", map.get(1));
+        assertNull(map.get(2));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void get_withManyKeys_ShouldSurviveResize() {
+        ConcurrentLongMap<Long> map = new ConcurrentLongMap<>();
+        long snowflake = 1089254817325875230L;
+
+        for (long i = 0; i < 10_000; i++) {
+            map.put(snowflake + (i << 22), i);
+        }
+
+        assertEquals(10_000, map.size());
+        for (long i = 0; i < 10_000; i++) {
+            assertEquals(i, map.get(snowflake + (i << 22)));
+        }
+    }
+
+    @Test
+    public void remove_withMappedKey_ShouldRemoveOnlyThatKey() {
+        ConcurrentLongMap<String> map = new ConcurrentLongMap<>();
+        for (long i = 0; i < 100; i++) {
+            map.put(i, String.valueOf(i));
+        }
+
+        assertEquals("42", map.remove(42));
+        assertNull(map.remove(42));
+
+        assertNull(map.get(42));
+        assertEquals(99, map.size());
+        for (long i = 0; i < 100; i++) {
+            if (i != 42) {
+                assertEquals(String.valueOf(i), map.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void remove_withOtherValue_ShouldNotRemove() {
+        ConcurrentLongMap<String> map = new ConcurrentLongMap<>();
+        String value = new String("a");
+        map.put(-1, value);
+
+        assertFalse(map.remove(-1, new String("a")));
+        assertTrue(map.remove(-1, value));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void forEachValue_withValues_ShouldVisitAll() {
+        ConcurrentLongMap<Long> map = new ConcurrentLongMap<>();
+        for (long i = 0; i < 100; i++) {
+            map.put(i, i);
+        }
+        Set<Long> visited = new HashSet<>();
+
+        map.forEachValue(visited::add);
+
+        assertEquals(100, visited.size());
+    }
+
+    @Test
+    public void put_concurrently_ShouldKeepAllMappings() throws Exception {
+        ConcurrentLongMap<Long> map = new ConcurrentLongMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                long offset = thread * 10_000L;
+                futures.add(executor.submit(() -> {
+                    for (long i = offset; i < offset + 10_000; i++) {
+                        map.put(i, i);
+                        if (i % 2 == 0) {
+                            map.remove(i);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(40_000, map.size());
+        for (long i = 1; i < 80_000; i += 2) {
+            assertEquals(i, map.get(i));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package data;
+
+import com.github.kaktushose.jda.commands.data.DeploymentState;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DeploymentStateTest {
+
+    private static final long APPLICATION = 1;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void isDeployed_afterUpdate_ShouldReturnTrue() {
+        DeploymentState state = new DeploymentState();
+
+        state.update("1", "hash");
+
+        assertTrue(state.isDeployed("1", "hash"));
+        assertFalse(state.isDeployed("1", "other"));
+        assertFalse(state.isDeployed("2", "hash"));
+    }
+
+    @Test
+    public void load_afterReopening_ShouldReturnLatestHashes() {
+        Path file = directory.resolve("state");
+        DeploymentState state = new DeploymentState(file, APPLICATION);
+        state.update(DeploymentState.GLOBAL, "first");
+        state.update(DeploymentState.GLOBAL, "second");
+        state.update("1", "hash");
+        state.close();
+
+        state = new DeploymentState(file, APPLICATION);
+
+        assertEquals("second", state.getHash(DeploymentState.GLOBAL).orElseThrow());
+        assertEquals("hash", state.getHash("1").orElseThrow());
+        state.close();
+    }
+
+    @Test
+    public void load_withStaleLines_ShouldCompactFile() throws IOException {
+        Path file = directory.resolve("state");
+        DeploymentState state = new DeploymentState(file, APPLICATION);
+        for (int i = 0; i < 10; i++) {
+            state.update("1", String.valueOf(i));
+        }
+        state.close();
+
+        new DeploymentState(file, APPLICATION).close();
+
+        assertEquals(2, Files.readAllLines(file).size());
+    }
+
+    @Test
+    public void clear_withPersistedState_ShouldForgetHashes() {
+        Path file = directory.resolve("state");
+        DeploymentState state = new DeploymentState(file, APPLICATION);
+        state.update("1", "hash");
+
+        state.clear();
+
+        assertTrue(state.getHash("1").isEmpty());
+        assertTrue(new DeploymentState(file, APPLICATION).getHash("1").isEmpty());
+    }
+
+    @Test
+    public void load_withOtherApplication_ShouldDiscardState() {
+        Path file = directory.resolve("state");
+        DeploymentState state = new DeploymentState(file, APPLICATION);
+        state.update("1", "hash");
+        state.close();
+
+        state = new DeploymentState(file, 2);
+        state.update("2", "hash");
+        state.close();
+
+        assertTrue(state.getHash("1").isEmpty());
+        assertEquals("hash", new DeploymentState(file, 2).getHash("2").orElseThrow());
+        assertTrue(new DeploymentState(file, APPLICATION).getHash("2").isEmpty());
+    }
+}
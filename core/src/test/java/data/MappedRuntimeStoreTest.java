@@ -0,0 +1,119 @@
+package data;
+
+import com.github.kaktushose.jda.commands.data.MappedRuntimeStore;
+import com.github.kaktushose.jda.commands.data.RuntimeStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedRuntimeStoreTest {
+
+    private static final long EXPIRATION = System.currentTimeMillis() + 60_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void store_withRepeatedUpdates_ShouldCompact() throws IOException {
+        MappedRuntimeStore store = new MappedRuntimeStore(directory.resolve("runtimes"));
+
+        // 4 MiB of records without compaction
+        for (int i = 0; i < 4096; i++) {
+            store.store("1", new byte[1024], EXPIRATION);
+        }
+
+        assertTrue(store.getLogSize() < 1 << 18, "Log size " + store.getLogSize());
+        assertEquals(1, store.size());
+        assertEquals(1024, store.load("1").orElseThrow().getState().length);
+        store.close();
+    }
+
+    @Test
+    public void load_withStoredState_ShouldReturnState() throws IOException {
+        MappedRuntimeStore store = new MappedRuntimeStore(directory.resolve("runtimes"));
+
+        store.store("1", new byte[]{1, 2, 3}, EXPIRATION);
+        Optional<RuntimeStore.Entry> entry = store.load("1");
+
+        assertTrue(entry.isPresent());
+        assertArrayEquals(new byte[]{1, 2, 3}, entry.get().getState());
+        assertEquals(EXPIRATION, entry.get().getExpiration());
+        store.close();
+    }
+
+    @Test
+    public void load_withReplacedState_ShouldReturnLatestState() throws IOException {
+        MappedRuntimeStore store = new MappedRuntimeStore(directory.resolve("runtimes"));
+
+        store.store("1", new byte[]{1}, EXPIRATION);
+        store.store("1", new byte[]{2}, EXPIRATION);
+
+        assertArrayEquals(new byte[]{2}, store.load("1").orElseThrow().getState());
+        assertEquals(1, store.size());
+        store.close();
+    }
+
+    @Test
+    public void load_withExpiredState_ShouldReturnEmpty() throws IOException {
+        MappedRuntimeStore store = new MappedRuntimeStore(directory.resolve("runtimes"));
+
+        store.store("1", new byte[]{1}, System.currentTimeMillis() - 1);
+
+        assertTrue(store.load("1").isEmpty());
+        store.close();
+    }
+
+    @Test
+    public void load_afterReopening_ShouldReturnLiveStates() throws IOException {
+        Path file = directory.resolve("runtimes");
+        MappedRuntimeStore store = new MappedRuntimeStore(file);
+        store.store("1", new byte[]{1}, EXPIRATION);
+        store.store("2", new byte[]{2}, EXPIRATION);
+        store.remove("1");
+        store.close();
+
+        store = new MappedRuntimeStore(file);
+
+        assertTrue(store.load("1").isEmpty());
+        assertArrayEquals(new byte[]{2}, store.load("2").orElseThrow().getState());
+        store.close();
+    }
+
+    @Test
+    public void compact_withRemovedStates_ShouldKeepLiveStates() throws IOException {
+        MappedRuntimeStore store = new MappedRuntimeStore(directory.resolve("runtimes"));
+        for (int i = 0; i < 10; i++) {
+            store.store(String.valueOf(i), new byte[]{(byte) i}, EXPIRATION);
+        }
+        int size = store.getLogSize();
+        for (int i = 0; i < 9; i++) {
+            store.remove(String.valueOf(i));
+        }
+
+        store.compact();
+
+        assertTrue(store.getLogSize() < size);
+        assertEquals(1, store.size());
+        assertArrayEquals(new byte[]{9}, store.load("9").orElseThrow().getState());
+        store.close();
+    }
+
+    @Test
+    public void store_exceedingCapacity_ShouldGrow() throws IOException {
+        MappedRuntimeStore store = new MappedRuntimeStore(directory.resolve("runtimes"));
+        byte[] state = new byte[1 << 16];
+
+        for (int i = 0; i < 20; i++) {
+            store.store(String.valueOf(i), state, EXPIRATION);
+        }
+
+        assertEquals(20, store.size());
+        assertEquals(state.length, store.load("19").orElseThrow().getState().length);
+        store.close();
+    }
+}
@@ -0,0 +1,48 @@
+package data;
+
+import com.github.kaktushose.jda.commands.data.TimingWheel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TimingWheelTest {
+
+    private Set<String> expired;
+    private TimingWheel<String> wheel;
+
+    @BeforeEach
+    public void setup() {
+        expired = ConcurrentHashMap.newKeySet();
+        wheel = new TimingWheel<>(10, TimeUnit.MILLISECONDS, 8, expired::add);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        wheel.shutdown();
+    }
+
+    @Test
+    public void schedule_withElapsedTimeout_ShouldExpire() throws InterruptedException {
+        wheel.schedule("key", 20, TimeUnit.MILLISECONDS);
+
+        Thread.sleep(200);
+
+        assertTrue(expired.contains("key"));
+    }
+
+    @Test
+    public void schedule_withTimeoutExceedingRotation_ShouldNotExpireEarly() throws InterruptedException {
+        wheel.schedule("key", 5, TimeUnit.SECONDS);
+
+        Thread.sleep(200);
+
+        assertFalse(expired.contains("key"));
+    }
+}
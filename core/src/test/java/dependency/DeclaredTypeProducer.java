@@ -0,0 +1,19 @@
+package dependency;
+
+import com.github.kaktushose.jda.commands.annotations.Produces;
+
+public class DeclaredTypeProducer {
+
+    @Produces
+    public Service getService() {
+        return new ServiceProducer.FirstService();
+    }
+
+    public static class LazyDeclaredTypeProducer {
+
+        @Produces(lazy = true)
+        public Service getService() {
+            return new ServiceProducer.FirstService();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package dependency;
+
+import com.github.kaktushose.jda.commands.dependency.DependencyInjector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DependencyInjectorTest {
+
+    private static DependencyInjector dependencyInjector;
+    private static InjectableClass instance;
+    private static List<Field> fields;
+
+    @BeforeAll
+    public static void setup() {
+        instance = new InjectableClass();
+        fields = Arrays.asList(instance.getClass().getDeclaredFields());
+    }
+
+    @BeforeEach
+    public void cleanup() {
+        dependencyInjector = new DependencyInjector();
+
+    }
+
+    @Test
+    public void inject_withRegisteredDependency_ShouldBePresent() {
+        dependencyInjector.registerDependencies(instance.getClass(), fields);
+        dependencyInjector.registerProvider(new ProducingClass());
+
+        dependencyInjector.inject(instance);
+
+        assertEquals(Dependency.FOO, instance.getDependency().getString());
+    }
+
+    @Test
+    public void inject_withoutRegisteredDependency_ShouldBeNull() {
+        dependencyInjector.registerDependencies(instance.getClass(), fields);
+
+        dependencyInjector.inject(instance);
+
+        assertNull(instance.getDependency());
+    }
+
+    @Test
+    public void registerProvider_withProducerMethodWithParameter_ShouldThrow() {
+        dependencyInjector.registerDependencies(instance.getClass(), fields);
+        dependencyInjector.registerProvider(new WrongProducingClass());
+
+        dependencyInjector.inject(instance);
+
+        assertNull(instance.getDependency());
+    }
+
+    @Test
+    public void inject_withAssignableDependency_ShouldBePresent() {
+        ServiceConsumer consumer = new ServiceConsumer();
+        dependencyInjector.registerDependencies(ServiceConsumer.class, Arrays.asList(ServiceConsumer.class.getDeclaredFields()));
+        dependencyInjector.registerProvider(new ServiceProducer());
+
+        dependencyInjector.inject(consumer);
+
+        assertInstanceOf(ServiceProducer.FirstService.class, consumer.getService());
+    }
+
+    @Test
+    public void inject_withAmbiguousDependency_ShouldBeNull() {
+        ServiceConsumer consumer = new ServiceConsumer();
+        dependencyInjector.registerDependencies(ServiceConsumer.class, Arrays.asList(ServiceConsumer.class.getDeclaredFields()));
+        dependencyInjector.registerProvider(new ServiceProducer());
+        dependencyInjector.registerProvider(new ServiceProducer.SecondServiceProducer());
+
+        dependencyInjector.inject(consumer);
+
+        assertNull(consumer.getService());
+        assertTrue(dependencyInjector.resolve(Service.class).isEmpty());
+        assertTrue(dependencyInjector.resolve(ServiceProducer.SecondService.class).isPresent());
+    }
+
+    @Test
+    public void inject_withLazyProducer_ShouldProduceOnce() {
+        LazyProducingClass producer = new LazyProducingClass();
+        dependencyInjector.registerDependencies(instance.getClass(), fields);
+        dependencyInjector.registerProvider(producer);
+
+        assertEquals(0, producer.calls);
+        dependencyInjector.inject(instance);
+        dependencyInjector.inject(new InjectableClass());
+
+        assertEquals(Dependency.FOO, instance.getDependency().getString());
+        assertEquals(1, producer.calls);
+    }
+
+    @Test
+    public void inject_withSupplierField_ShouldDeferLazyProducer() {
+        LazyProducingClass producer = new LazyProducingClass();
+        SupplierConsumer consumer = new SupplierConsumer();
+        dependencyInjector.registerDependencies(SupplierConsumer.class, Arrays.asList(SupplierConsumer.class.getDeclaredFields()));
+        dependencyInjector.registerProvider(producer);
+
+        dependencyInjector.inject(consumer);
+
+        assertEquals(0, producer.calls);
+        assertEquals(Dependency.FOO, consumer.getDependency().get().getString());
+        assertSame(consumer.getDependency().get(), consumer.getDependency().get());
+        assertEquals(1, producer.calls);
+    }
+
+    @Test
+    public void inject_withSupplierFieldAndEagerProducer_ShouldSupplyDependency() {
+        SupplierConsumer consumer = new SupplierConsumer();
+        dependencyInjector.registerDependencies(SupplierConsumer.class, Arrays.asList(SupplierConsumer.class.getDeclaredFields()));
+        dependencyInjector.registerProvider(new ProducingClass());
+
+        dependencyInjector.inject(consumer);
+
+        assertEquals(Dependency.FOO, consumer.getDependency().get().getString());
+    }
+
+    @Test
+    public void resolve_withLazyProducerFailingOnce_ShouldRetry() {
+        FailingLazyProducingClass producer = new FailingLazyProducingClass();
+        dependencyInjector.registerProvider(producer);
+
+        assertTrue(dependencyInjector.resolve(Dependency.class).isEmpty());
+        assertTrue(dependencyInjector.resolve(Dependency.class).isPresent());
+        assertTrue(dependencyInjector.resolve(Dependency.class).isPresent());
+
+        assertEquals(2, producer.calls);
+    }
+
+    @Test
+    public void resolve_withEagerProducer_ShouldAlsoUseRuntimeClass() {
+        dependencyInjector.registerProvider(new DeclaredTypeProducer());
+
+        Optional<Object> declared = dependencyInjector.resolve(Service.class);
+        Optional<Object> runtime = dependencyInjector.resolve(ServiceProducer.FirstService.class);
+
+        assertTrue(declared.isPresent());
+        assertTrue(runtime.isPresent());
+        assertSame(declared.get(), runtime.get());
+    }
+
+    @Test
+    public void resolve_withEagerProducerAndAssignableType_ShouldNotBeAmbiguous() {
+        dependencyInjector.registerProvider(new DeclaredTypeProducer());
+
+        assertTrue(dependencyInjector.resolve(Object.class).isPresent());
+    }
+
+    @Test
+    public void resolve_withLazyProducer_ShouldUseDeclaredReturnType() {
+        dependencyInjector.registerProvider(new DeclaredTypeProducer.LazyDeclaredTypeProducer());
+
+        assertTrue(dependencyInjector.resolve(Service.class).isPresent());
+        assertTrue(dependencyInjector.resolve(ServiceProducer.FirstService.class).isEmpty());
+    }
+}
@@ -0,0 +1,17 @@
+package dependency;
+
+import com.github.kaktushose.jda.commands.annotations.Produces;
+
+public class FailingLazyProducingClass {
+
+    public int calls;
+
+    @Produces(lazy = true)
+    public Dependency getDependency() {
+        calls++;
+        if (calls == 1) {
+            throw new IllegalStateException("first call fails");
+        }
+        return new Dependency();
+    }
+}
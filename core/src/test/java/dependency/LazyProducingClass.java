@@ -0,0 +1,14 @@
+package dependency;
+
+import com.github.kaktushose.jda.commands.annotations.Produces;
+
+public class LazyProducingClass {
+
+    public int calls;
+
+    @Produces(lazy = true)
+    public Dependency getDependency() {
+        calls++;
+        return new Dependency();
+    }
+}
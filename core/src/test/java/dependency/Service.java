@@ -0,0 +1,4 @@
+package dependency;
+
+public interface Service {
+}
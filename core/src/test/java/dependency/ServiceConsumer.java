@@ -0,0 +1,13 @@
+package dependency;
+
+import com.github.kaktushose.jda.commands.annotations.Inject;
+
+public class ServiceConsumer {
+
+    @Inject
+    private Service service;
+
+    public Service getService() {
+        return service;
+    }
+}
@@ -0,0 +1,25 @@
+package dependency;
+
+import com.github.kaktushose.jda.commands.annotations.Produces;
+
+public class ServiceProducer {
+
+    @Produces
+    public FirstService getFirstService() {
+        return new FirstService();
+    }
+
+    public static class FirstService implements Service {
+    }
+
+    public static class SecondService implements Service {
+    }
+
+    public static class SecondServiceProducer {
+
+        @Produces
+        public SecondService getSecondService() {
+            return new SecondService();
+        }
+    }
+}
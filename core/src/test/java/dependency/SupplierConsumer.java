@@ -0,0 +1,15 @@
+package dependency;
+
+import com.github.kaktushose.jda.commands.annotations.Inject;
+
+import java.util.function.Supplier;
+
+public class SupplierConsumer {
+
+    @Inject
+    private Supplier<Dependency> dependency;
+
+    public Supplier<Dependency> getDependency() {
+        return dependency;
+    }
+}
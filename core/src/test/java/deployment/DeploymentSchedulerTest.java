@@ -0,0 +1,234 @@
+package deployment;
+
+import com.github.kaktushose.jda.commands.DeploymentScheduler;
+import com.github.kaktushose.jda.commands.DeploymentScheduler.Deployment;
+import com.github.kaktushose.jda.commands.DeploymentScheduler.Progress;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DeploymentSchedulerTest {
+
+    private DeploymentScheduler scheduler;
+
+    @BeforeEach
+    public void setup() {
+        scheduler = new DeploymentScheduler();
+        scheduler.setRequestsPerSecond(1000);
+        scheduler.setProgressListener(progress -> {
+        });
+    }
+
+    @AfterEach
+    public void teardown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void deploy_withMultipleShards_ShouldDeployAll() {
+        List<Deployment> deployments = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            deployments.add(new Deployment(i, i % 3, 1, () -> CompletableFuture.completedFuture(null)));
+        }
+
+        Progress progress = scheduler.deploy(deployments).join();
+
+        assertEquals(10, progress.getCompleted());
+        assertEquals(0, progress.getFailed());
+        assertTrue(progress.isDone());
+    }
+
+    @Test
+    public void deploy_withFailingRequest_ShouldCountFailure() {
+        List<Deployment> deployments = Arrays.asList(
+                new Deployment(1, 0, 1, () -> CompletableFuture.completedFuture(null)),
+                new Deployment(2, 0, 1, () -> CompletableFuture.failedFuture(new IllegalStateException())),
+                new Deployment(3, 0, 1, () -> {
+                    throw new IllegalStateException();
+                })
+        );
+
+        Progress progress = scheduler.deploy(deployments).join();
+
+        assertEquals(1, progress.getCompleted());
+        assertEquals(2, progress.getFailed());
+    }
+
+    @Test
+    public void deploy_withinShard_ShouldPrioritizeLargerGuilds() {
+        scheduler.setMaxInFlight(1);
+        List<Long> order = Collections.synchronizedList(new ArrayList<>());
+        List<Deployment> deployments = new ArrayList<>();
+        int[] memberCounts = {5, 500, 50};
+        for (int i = 0; i < memberCounts.length; i++) {
+            long id = i;
+            deployments.add(new Deployment(id, 0, memberCounts[i], () -> {
+                order.add(id);
+                return CompletableFuture.completedFuture(null);
+            }));
+        }
+
+        scheduler.deploy(deployments).join();
+
+        assertEquals(Arrays.asList(1L, 2L, 0L), order);
+    }
+
+    @Test
+    public void deploy_withRequestLimit_ShouldPaceRequests() {
+        scheduler.setRequestsPerSecond(20);
+        List<Deployment> deployments = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            deployments.add(new Deployment(i, i % 2, 1, () -> CompletableFuture.completedFuture(null)));
+        }
+
+        Progress progress = scheduler.deploy(deployments).join();
+
+        // six requests spaced by 50ms take at least 250ms
+        assertTrue(progress.getElapsed().toMillis() >= 250, "Took " + progress.getElapsed().toMillis() + "ms");
+    }
+
+    @Test
+    public void deploy_withRequestLimit_ShouldSpaceRequestsAcrossShards() {
+        scheduler.setRequestsPerSecond(20);
+        List<Long> timestamps = Collections.synchronizedList(new ArrayList<>());
+        List<Deployment> deployments = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            deployments.add(new Deployment(i, i % 3, 1, () -> {
+                timestamps.add(System.nanoTime());
+                return CompletableFuture.completedFuture(null);
+            }));
+        }
+
+        long start = System.nanoTime();
+        scheduler.deploy(deployments).join();
+
+        // the n-th request may not be sent before n intervals of 50ms passed, no matter which shard sends it
+        List<Long> sorted = new ArrayList<>(timestamps);
+        Collections.sort(sorted);
+        for (int i = 0; i < sorted.size(); i++) {
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(sorted.get(i) - start);
+            assertTrue(elapsed >= i * 50L - 1, "Request " + i + " was sent after " + elapsed + "ms");
+        }
+    }
+
+    @Test
+    public void deploy_withSlowResponses_ShouldHalveWindow() throws InterruptedException {
+        scheduler.setMaxInFlight(4);
+        scheduler.setSlowResponseThreshold(Duration.ofMillis(200));
+        BlockingQueue<CompletableFuture<Void>> requests = new LinkedBlockingQueue<>();
+        List<Deployment> deployments = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            deployments.add(new Deployment(i, 0, 1, () -> {
+                CompletableFuture<Void> future = new CompletableFuture<>();
+                requests.add(future);
+                return future;
+            }));
+        }
+
+        CompletableFuture<Progress> result = scheduler.deploy(deployments);
+
+        // fast responses grow the window from one to four requests in flight
+        take(requests, 1).forEach(future -> future.complete(null));
+        take(requests, 2).forEach(future -> future.complete(null));
+        List<CompletableFuture<Void>> inFlight = take(requests, 4);
+        assertNull(requests.poll(50, TimeUnit.MILLISECONDS));
+
+        // slow responses halve the window down to a single request in flight
+        Thread.sleep(250);
+        for (int i = 0; i < 3; i++) {
+            inFlight.get(i).complete(null);
+        }
+        assertNull(requests.poll(50, TimeUnit.MILLISECONDS));
+        inFlight.get(3).complete(null);
+        take(requests, 1).forEach(future -> future.complete(null));
+
+        while (!result.isDone()) {
+            CompletableFuture<Void> future = requests.poll(10, TimeUnit.MILLISECONDS);
+            if (future != null) {
+                future.complete(null);
+            }
+        }
+        assertEquals(10, result.join().getCompleted());
+    }
+
+    @Test
+    public void deploy_withFailingRequests_ShouldContinueAndReportFailures() {
+        scheduler.setMaxInFlight(1);
+        AtomicReference<Progress> reported = new AtomicReference<>();
+        scheduler.setProgressListener(reported::set);
+        List<Long> sent = Collections.synchronizedList(new ArrayList<>());
+        List<Deployment> deployments = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            long id = i;
+            deployments.add(new Deployment(id, 0, 1, () -> {
+                sent.add(id);
+                return id % 2 == 0
+                        ? CompletableFuture.completedFuture(null)
+                        : CompletableFuture.failedFuture(new IllegalStateException());
+            }));
+        }
+
+        Progress progress = scheduler.deploy(deployments).join();
+
+        assertEquals(5, sent.size());
+        assertEquals(3, progress.getCompleted());
+        assertEquals(2, progress.getFailed());
+        assertTrue(progress.isDone());
+        assertSame(progress, reported.get());
+    }
+
+    @Test
+    public void getEta_withCompletedDeployments_ShouldExtrapolateElapsedTime() throws InterruptedException {
+        scheduler.setMaxInFlight(1);
+        BlockingQueue<CompletableFuture<Void>> requests = new LinkedBlockingQueue<>();
+        List<Deployment> deployments = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            deployments.add(new Deployment(i, 0, 1, () -> {
+                CompletableFuture<Void> future = new CompletableFuture<>();
+                requests.add(future);
+                return future;
+            }));
+        }
+
+        CompletableFuture<Progress> result = scheduler.deploy(deployments);
+        Progress progress = scheduler.getLastProgress().orElseThrow();
+
+        assertTrue(progress.getEta().isEmpty());
+
+        take(requests, 1).forEach(future -> future.complete(null));
+        CompletableFuture<Void> second = take(requests, 1).get(0);
+        Duration elapsed = progress.getElapsed();
+        Optional<Duration> eta = progress.getEta();
+
+        // one of four guilds is done, so the remaining three take about three times as long
+        assertTrue(eta.isPresent());
+        assertTrue(eta.get().compareTo(elapsed.multipliedBy(3)) >= 0, "ETA " + eta.get() + ", elapsed " + elapsed);
+
+        second.complete(null);
+        take(requests, 1).forEach(future -> future.complete(null));
+        take(requests, 1).forEach(future -> future.complete(null));
+
+        assertEquals(Optional.of(Duration.ZERO), result.join().getEta());
+    }
+
+    private List<CompletableFuture<Void>> take(BlockingQueue<CompletableFuture<Void>> requests, int amount)
+            throws InterruptedException {
+        List<CompletableFuture<Void>> result = new ArrayList<>();
+        for (int i = 0; i < amount; i++) {
+            CompletableFuture<Void> future = requests.poll(5, TimeUnit.SECONDS);
+            assertNotNull(future, "Request " + i + " was not sent");
+            result.add(future);
+        }
+        return result;
+    }
+}
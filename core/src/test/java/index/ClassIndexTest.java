@@ -0,0 +1,80 @@
+package index;
+
+import buttons.ButtonDefinitionTestController;
+import buttons.StatelessTestController;
+import com.github.kaktushose.jda.commands.reflect.ClassIndex;
+import controller.ControllerDefinitionTestController;
+import dependency.ProducingClass;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClassIndexTest {
+
+    private ClassLoader loader;
+    private URL testClasses;
+    private URL indexed;
+
+    @BeforeEach
+    public void setup(@TempDir Path dependency) throws IOException {
+        loader = ClassIndexTest.class.getClassLoader();
+        testClasses = ClassIndexTest.class.getProtectionDomain().getCodeSource().getLocation();
+
+        // a classpath root whose index only lists a single interaction
+        Path index = dependency.resolve("META-INF/jda-commands/interactions");
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, ButtonDefinitionTestController.class.getName() + "\n");
+        indexed = dependency.toUri().toURL();
+    }
+
+    @Test
+    public void scan_withPackages_ShouldOnlyIndexPackages() {
+        ClassIndex index = ClassIndex.scan(ClassIndexTest.class, "controller");
+
+        assertTrue(index.getInteractions().contains(ControllerDefinitionTestController.class));
+        assertTrue(index.getInteractions().stream().allMatch(clazz -> clazz.getPackageName().equals("controller")));
+        assertTrue(index.getProducers().isEmpty());
+    }
+
+    @Test
+    public void scan_withProducers_ShouldIndexProducers() {
+        ClassIndex index = ClassIndex.scan(ClassIndexTest.class, "dependency");
+
+        assertTrue(index.getProducers().stream().map(Method::getDeclaringClass).anyMatch(ProducingClass.class::equals));
+    }
+
+    @Test
+    public void create_withoutBuildTimeIndex_ShouldFallBackToScan() {
+        ClassIndex created = ClassIndex.create(ClassIndexTest.class, "controller");
+        ClassIndex scanned = ClassIndex.scan(ClassIndexTest.class, "controller");
+
+        assertEquals(scanned.getInteractions(), created.getInteractions());
+    }
+
+    @Test
+    public void create_withIndexedRoot_ShouldTrustIndex() {
+        ClassIndex index = ClassIndex.create(loader, Collections.singletonList(indexed), "buttons");
+
+        assertEquals(Set.of(ButtonDefinitionTestController.class), index.getInteractions());
+    }
+
+    @Test
+    public void create_withIncompleteIndex_ShouldScanRootsWithoutIndex() {
+        ClassIndex index = ClassIndex.create(loader, Arrays.asList(indexed, testClasses), "buttons", "controller");
+
+        assertTrue(index.getInteractions().contains(ButtonDefinitionTestController.class));
+        assertTrue(index.getInteractions().contains(StatelessTestController.class));
+        assertTrue(index.getInteractions().contains(ControllerDefinitionTestController.class));
+    }
+}
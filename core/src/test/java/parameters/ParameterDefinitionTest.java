@@ -0,0 +1,165 @@
+package parameters;
+
+import com.github.kaktushose.jda.commands.annotations.constraints.Min;
+import com.github.kaktushose.jda.commands.dispatching.validation.ValidatorRegistry;
+import com.github.kaktushose.jda.commands.dispatching.validation.impl.MinimumValidator;
+import com.github.kaktushose.jda.commands.reflect.ParameterDefinition;
+import net.dv8tion.jda.api.interactions.commands.OptionType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParameterDefinitionTest {
+
+    private static Class<?> controller;
+    private static ValidatorRegistry validatorRegistry;
+
+    @BeforeAll
+    public static void setup() {
+        controller = ParameterTestController.class;
+        validatorRegistry = new ValidatorRegistry();
+    }
+
+    @Test
+    public void method_withVarArgs_ShouldThrow() throws NoSuchMethodException {
+        Method method = controller.getDeclaredMethod("varArgs", Object[].class);
+
+        assertThrows(IllegalArgumentException.class, () -> ParameterDefinition.build(method.getParameters()[0], validatorRegistry));
+    }
+
+    @Test
+    public void method_withPrimitiveInt_ShouldWrap() throws NoSuchMethodException {
+        Method method = controller.getDeclaredMethod("primitives", int.class);
+        ParameterDefinition parameter = ParameterDefinition.build(method.getParameters()[0], validatorRegistry);
+
+        assertEquals(Integer.class, parameter.getType());
+        assertTrue(parameter.isPrimitive());
+    }
+
+    @Test
+    public void optional_withoutDefault_ShouldBeNull() throws NoSuchMethodException {
+        Method method = controller.getDeclaredMethod("optional", Object.class);
+        ParameterDefinition parameter = ParameterDefinition.build(method.getParameters()[0], validatorRegistry);
+
+        assertTrue(parameter.isOptional());
+        assertNull(parameter.getDefaultValue());
+    }
+
+    @Test
+    public void optional_withDefault_ShouldWork() throws NoSuchMethodException {
+        Method method = controller.getDeclaredMethod("optionalWithDefault", Object.class);
+        ParameterDefinition parameter = ParameterDefinition.build(method.getParameters()[0], validatorRegistry);
+
+        assertTrue(parameter.isOptional());
+        assertEquals("default", parameter.getDefaultValue());
+    }
+
+    @Test
+    public void constraintMin_withLimit10_ShouldWork() throws NoSuchMethodException {
+        Method method = controller.getDeclaredMethod("constraint", int.class);
+        ParameterDefinition parameter = ParameterDefinition.build(method.getParameters()[0], validatorRegistry);
+
+        assertEquals(1, parameter.getConstraints().size());
+        assertEquals(10, ((Min) parameter.getConstraints().get(0).getAnnotation()).value());
+        assertEquals(MinimumValidator.class, parameter.getConstraints().get(0).getValidator().getClass());
+        assertFalse(parameter.getConstraints().get(0).getMessage().isEmpty());
+    }
+
+    @Test
+    public void constraint_withMessage_ShouldWork() throws NoSuchMethodException {
+        Method method = controller.getDeclaredMethod("constraintWithMessage", int.class);
+        ParameterDefinition parameter = ParameterDefinition.build(method.getParameters()[0], validatorRegistry);
+
+        assertEquals("error message", parameter.getConstraints().get(0).getMessage());
+    }
+
+    @Test
+    public void constraintMin_withIntegerOption_ShouldBeDelegated() throws NoSuchMethodException {
+        Method method = controller.getDeclaredMethod("constraint", int.class);
+        ParameterDefinition parameter = ParameterDefinition.build(method.getParameters()[0], validatorRegistry);
+
+        assertTrue(parameter.getConstraints().get(0).isDelegated());
+        assertTrue(parameter.getRuntimeConstraints().isEmpty());
+        assertEquals(10L, parameter.toOptionData().getMinValue());
+    }
+
+    @Test
+    public void constraintMin_withOptional_ShouldNotBeDelegated() throws NoSuchMethodException {
+        Method method = controller.getDeclaredMethod("constraintWithOptional", int.class);
+        ParameterDefinition parameter = ParameterDefinition.build(method.getParameters()[0], validatorRegistry);
+
+        assertFalse(parameter.getConstraints().get(0).isDelegated());
+        assertEquals(1, parameter.getRuntimeConstraints().size());
+    }
+
+    @Test
+    public void constraintMin_withStringOption_ShouldNotBeDelegated() throws NoSuchMethodException {
+        Method method = controller.getDeclaredMethod("constraintWithStringOption", byte.class);
+        ParameterDefinition parameter = ParameterDefinition.build(method.getParameters()[0], validatorRegistry);
+
+        assertFalse(parameter.getConstraints().get(0).isDelegated());
+        assertEquals(1, parameter.getRuntimeConstraints().size());
+        assertNull(parameter.toOptionData().getMinValue());
+    }
+
+    @Test
+    public void constraintMax_withIntegerOption_ShouldBeDelegated() throws NoSuchMethodException {
+        Method method = controller.getDeclaredMethod("constraintMax", int.class);
+        ParameterDefinition parameter = ParameterDefinition.build(method.getParameters()[0], validatorRegistry);
+
+        assertTrue(parameter.getConstraints().get(0).isDelegated());
+        assertTrue(parameter.getRuntimeConstraints().isEmpty());
+        assertEquals(100L, parameter.toOptionData().getMaxValue());
+    }
+
+    @Test
+    public void constraintMin_withNumberOption_ShouldBeDelegated() throws NoSuchMethodException {
+        Method method = controller.getDeclaredMethod("constraintMinNumber", double.class);
+        ParameterDefinition parameter = ParameterDefinition.build(method.getParameters()[0], validatorRegistry);
+
+        assertEquals(OptionType.NUMBER, parameter.toOptionData().getType());
+        assertTrue(parameter.getConstraints().get(0).isDelegated());
+        assertEquals(5.0, parameter.toOptionData().getMinValue().doubleValue());
+    }
+
+    @Test
+    public void constraintMax_withNumberOption_ShouldBeDelegated() throws NoSuchMethodException {
+        Method method = controller.getDeclaredMethod("constraintMaxNumber", long.class);
+        ParameterDefinition parameter = ParameterDefinition.build(method.getParameters()[0], validatorRegistry);
+
+        assertEquals(OptionType.NUMBER, parameter.toOptionData().getType());
+        assertTrue(parameter.getConstraints().get(0).isDelegated());
+        assertEquals(5.0, parameter.toOptionData().getMaxValue().doubleValue());
+    }
+
+    @Test
+    public void constraintMax_withValueOutOfRange_ShouldNotBeDelegated() throws NoSuchMethodException {
+        Method method = controller.getDeclaredMethod("constraintMaxOutOfRange", long.class);
+        ParameterDefinition parameter = ParameterDefinition.build(method.getParameters()[0], validatorRegistry);
+
+        assertFalse(parameter.getConstraints().get(0).isDelegated());
+        assertEquals(1, parameter.getRuntimeConstraints().size());
+        assertNull(parameter.toOptionData().getMaxValue());
+    }
+
+    @Test
+    public void constraintMin_withValueOutOfRange_ShouldNotBeDelegated() throws NoSuchMethodException {
+        Method method = controller.getDeclaredMethod("constraintMinOutOfRange", int.class);
+        ParameterDefinition parameter = ParameterDefinition.build(method.getParameters()[0], validatorRegistry);
+
+        assertFalse(parameter.getConstraints().get(0).isDelegated());
+        assertNull(parameter.toOptionData().getMinValue());
+    }
+
+    @Test
+    public void constraintMax_withOptionalDefault_ShouldNotBeDelegated() throws NoSuchMethodException {
+        Method method = controller.getDeclaredMethod("constraintMaxWithOptional", int.class);
+        ParameterDefinition parameter = ParameterDefinition.build(method.getParameters()[0], validatorRegistry);
+
+        assertFalse(parameter.getConstraints().get(0).isDelegated());
+        assertEquals(1, parameter.getRuntimeConstraints().size());
+    }
+}
@@ -0,0 +1,64 @@
+package parameters;
+
+import com.github.kaktushose.jda.commands.annotations.constraints.Max;
+import com.github.kaktushose.jda.commands.annotations.constraints.Min;
+import com.github.kaktushose.jda.commands.annotations.interactions.Optional;
+
+public class ParameterTestController {
+
+    public void varArgs(Object... args) {
+
+    }
+
+    public void primitives(int i) {
+
+    }
+
+    public void optional(@Optional Object argument) {
+
+    }
+
+    public void optionalWithDefault(@Optional("default") Object argument) {
+
+    }
+
+    public void constraint(@Min(10) int i) {
+
+    }
+
+    public void constraintWithMessage(@Min(value = 10, message = "error message") int i) {
+
+    }
+
+    public void constraintWithOptional(@Optional @Min(10) int i) {
+
+    }
+
+    public void constraintWithStringOption(@Min(10) byte b) {
+
+    }
+
+    public void constraintMax(@Max(100) int i) {
+
+    }
+
+    public void constraintMinNumber(@Min(5) double d) {
+
+    }
+
+    public void constraintMaxNumber(@Max(5) long l) {
+
+    }
+
+    public void constraintMaxOutOfRange(@Max(Long.MAX_VALUE) long l) {
+
+    }
+
+    public void constraintMinOutOfRange(@Min(Long.MIN_VALUE) int i) {
+
+    }
+
+    public void constraintMaxWithOptional(@Optional("5") @Max(10) int i) {
+
+    }
+}
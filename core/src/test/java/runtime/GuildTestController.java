@@ -0,0 +1,33 @@
+package runtime;
+
+import com.github.kaktushose.jda.commands.annotations.interactions.Button;
+import com.github.kaktushose.jda.commands.annotations.interactions.Interaction;
+import com.github.kaktushose.jda.commands.dispatching.buttons.ButtonEvent;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Interaction(scope = Interaction.InstanceScope.GUILD)
+public class GuildTestController {
+
+    public static final AtomicInteger instances = new AtomicInteger();
+    // blocks the next constructor call until the latch is released
+    public static final AtomicBoolean blockNext = new AtomicBoolean();
+    public static volatile CountDownLatch release = new CountDownLatch(0);
+    public static volatile CountDownLatch blocked = new CountDownLatch(0);
+
+    public GuildTestController() throws InterruptedException {
+        instances.incrementAndGet();
+        if (blockNext.compareAndSet(true, false)) {
+            blocked.countDown();
+            release.await(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Button("label")
+    public void click(ButtonEvent event) {
+
+    }
+}
@@ -0,0 +1,150 @@
+package runtime;
+
+import adapting.mock.GuildMock;
+import adapting.mock.SlashCommandInteractionEventMock;
+import com.github.kaktushose.jda.commands.dependency.DependencyInjector;
+import com.github.kaktushose.jda.commands.dispatching.RuntimeSupervisor;
+import com.github.kaktushose.jda.commands.dispatching.buttons.ButtonEvent;
+import com.github.kaktushose.jda.commands.reflect.interactions.ButtonDefinition;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.events.interaction.command.GenericCommandInteractionEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InstanceScopeTest {
+
+    private RuntimeSupervisor supervisor;
+
+    @BeforeEach
+    public void setup() {
+        supervisor = new RuntimeSupervisor(new DependencyInjector());
+    }
+
+    @AfterEach
+    public void cleanup() {
+        supervisor.shutdown();
+    }
+
+    @Test
+    public void newRuntime_withSingletonScope_ShouldReuseInstance() throws Exception {
+        ButtonDefinition definition = build(SingletonTestController.class);
+        int before = SingletonTestController.instances.get();
+
+        Object first = supervisor.newRuntime(event(1), definition).getInstance();
+        Object second = supervisor.newRuntime(event(2), definition).getInstance();
+
+        assertSame(first, second);
+        assertEquals(before + 1, SingletonTestController.instances.get());
+    }
+
+    @Test
+    public void newRuntime_withInvocationScope_ShouldCreateNewInstance() throws Exception {
+        ButtonDefinition definition = build(InvocationTestController.class);
+
+        Object first = supervisor.newRuntime(event(1), definition).getInstance();
+        Object second = supervisor.newRuntime(event(1), definition).getInstance();
+
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void newRuntime_withGuildScope_ShouldReuseInstancePerGuild() throws Exception {
+        ButtonDefinition definition = build(GuildTestController.class);
+
+        Object first = supervisor.newRuntime(event(1), definition).getInstance();
+        Object second = supervisor.newRuntime(event(1), definition).getInstance();
+        Object other = supervisor.newRuntime(event(2), definition).getInstance();
+
+        assertSame(first, second);
+        assertNotSame(first, other);
+    }
+
+    @Test
+    public void newRuntime_withGuildScopeAndMaxGuildInstancesExceeded_ShouldEvictLeastRecentlyUsedGuild() throws Exception {
+        ButtonDefinition definition = build(GuildTestController.class);
+        supervisor.setMaxGuildInstances(2);
+
+        Object first = supervisor.newRuntime(event(1), definition).getInstance();
+        Object second = supervisor.newRuntime(event(2), definition).getInstance();
+        supervisor.newRuntime(event(1), definition);
+        supervisor.newRuntime(event(3), definition);
+
+        assertSame(first, supervisor.newRuntime(event(1), definition).getInstance());
+        assertNotSame(second, supervisor.newRuntime(event(2), definition).getInstance());
+    }
+
+    @Test
+    public void newRuntime_withGuildScopeAndSlowConstructor_ShouldNotBlockOtherGuilds() throws Exception {
+        ButtonDefinition definition = build(GuildTestController.class);
+        GuildTestController.release = new CountDownLatch(1);
+        GuildTestController.blocked = new CountDownLatch(1);
+        GuildTestController.blockNext.set(true);
+
+        CompletableFuture<Object> slow = CompletableFuture.supplyAsync(() -> {
+            try {
+                return supervisor.newRuntime(event(1), definition).getInstance();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        try {
+            assertTrue(GuildTestController.blocked.await(5, TimeUnit.SECONDS));
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> supervisor.newRuntime(event(2), definition));
+        } finally {
+            GuildTestController.release.countDown();
+        }
+
+        assertNotNull(slow.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void newRuntime_withSingletonScopeAndSlowConstructor_ShouldNotBlockOtherSingletons() throws Exception {
+        ButtonDefinition definition = build(SingletonTestController.class);
+        ButtonDefinition other = build(SingletonTestController.OtherSingletonTestController.class);
+        SingletonTestController.release = new CountDownLatch(1);
+        SingletonTestController.blocked = new CountDownLatch(1);
+        SingletonTestController.blockNext.set(true);
+
+        CompletableFuture<Object> slow = CompletableFuture.supplyAsync(() -> {
+            try {
+                return supervisor.newRuntime(event(1), definition).getInstance();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        try {
+            assertTrue(SingletonTestController.blocked.await(5, TimeUnit.SECONDS));
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> supervisor.newRuntime(event(1), other));
+        } finally {
+            SingletonTestController.release.countDown();
+        }
+
+        assertSame(slow.get(5, TimeUnit.SECONDS), supervisor.newRuntime(event(2), definition).getInstance());
+    }
+
+    private ButtonDefinition build(Class<?> controller) throws NoSuchMethodException {
+        return ButtonDefinition.build(controller.getDeclaredMethod("click", ButtonEvent.class)).orElseThrow();
+    }
+
+    private GenericCommandInteractionEvent event(long guildId) {
+        return new SlashCommandInteractionEventMock() {
+            @Override
+            public Guild getGuild() {
+                return new GuildMock() {
+                    @Override
+                    public long getIdLong() {
+                        return guildId;
+                    }
+                };
+            }
+        };
+    }
+}
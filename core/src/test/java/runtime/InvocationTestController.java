@@ -0,0 +1,22 @@
+package runtime;
+
+import com.github.kaktushose.jda.commands.annotations.interactions.Button;
+import com.github.kaktushose.jda.commands.annotations.interactions.Interaction;
+import com.github.kaktushose.jda.commands.dispatching.buttons.ButtonEvent;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Interaction(scope = Interaction.InstanceScope.INVOCATION)
+public class InvocationTestController {
+
+    public static final AtomicInteger instances = new AtomicInteger();
+
+    public InvocationTestController() {
+        instances.incrementAndGet();
+    }
+
+    @Button("label")
+    public void click(ButtonEvent event) {
+
+    }
+}
@@ -0,0 +1,122 @@
+package runtime;
+
+import com.github.kaktushose.jda.commands.dependency.DependencyInjector;
+import com.github.kaktushose.jda.commands.dispatching.RuntimeSupervisor;
+import com.github.kaktushose.jda.commands.dispatching.RuntimeSupervisor.InteractionRuntime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RuntimeBoundsTest {
+
+    private RuntimeSupervisor supervisor;
+
+    @BeforeEach
+    public void setup() {
+        supervisor = new RuntimeSupervisor(new DependencyInjector());
+    }
+
+    @AfterEach
+    public void cleanup() {
+        supervisor.shutdown();
+    }
+
+    @Test
+    public void getHeapThreshold_byDefault_ShouldBeDisabled() {
+        assertEquals(0, supervisor.getHeapThreshold());
+    }
+
+    @Test
+    public void register_withMaxRuntimesExceeded_ShouldEvict() {
+        supervisor.setMaxRuntimes(1);
+
+        supervisor.register(new InteractionRuntime("1", new Object()));
+        supervisor.register(new InteractionRuntime("2", new Object()));
+
+        assertEquals(1, supervisor.size());
+    }
+
+    @Test
+    public void register_withMaxWeightExceeded_ShouldEvict() {
+        supervisor.setWeigher(instance -> 10);
+        supervisor.register(new InteractionRuntime("1", new Object()));
+        supervisor.setMaxWeight(supervisor.getTotalWeight());
+
+        supervisor.register(new InteractionRuntime("2", new Object()));
+
+        assertEquals(1, supervisor.size());
+        assertEquals(10, supervisor.getTotalWeight());
+    }
+
+    @Test
+    public void register_withWeigher_ShouldSumWeights() {
+        supervisor.setWeigher(instance -> instance instanceof String ? ((String) instance).length() : 1);
+
+        supervisor.register(new InteractionRuntime("1", "abc"));
+        supervisor.register(new InteractionRuntime("2", "abcde"));
+        supervisor.register(new InteractionRuntime("3", new Object()));
+
+        assertEquals(9, supervisor.getTotalWeight());
+    }
+
+    @Test
+    public void register_withMaxRuntimesConcurrently_ShouldStayBounded() throws Exception {
+        supervisor.setMaxRuntimes(100);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int offset = thread * 1000;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        supervisor.register(new InteractionRuntime(String.valueOf(offset + i), new Object()));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue(supervisor.size() <= 100);
+        assertEquals(supervisor.size(), supervisor.getTotalWeight());
+    }
+
+    @Test
+    public void evict_withHalf_ShouldRemoveHalf() {
+        for (int i = 0; i < 4; i++) {
+            supervisor.register(new InteractionRuntime(String.valueOf(i), new Object()));
+        }
+
+        assertEquals(2, supervisor.evict(0.5));
+        assertEquals(2, supervisor.size());
+        assertEquals(2, supervisor.getTotalWeight());
+    }
+
+    @Test
+    public void setHeapThreshold_calledTwice_ShouldOverrideOwnThreshold() {
+        supervisor.setHeapThreshold(0.9);
+        supervisor.setHeapThreshold(0.7);
+
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            long max = pool.getUsage().getMax();
+            if (pool.getType() != MemoryType.HEAP || !pool.isCollectionUsageThresholdSupported() || max <= 0) {
+                continue;
+            }
+            assertEquals((long) (max * 0.7), pool.getCollectionUsageThreshold());
+        }
+    }
+}
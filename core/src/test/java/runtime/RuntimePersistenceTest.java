@@ -0,0 +1,222 @@
+package runtime;
+
+import adapting.mock.GuildMock;
+import adapting.mock.JDAMock;
+import adapting.mock.SlashCommandInteractionEventMock;
+import com.github.kaktushose.jda.commands.data.MappedRuntimeStore;
+import com.github.kaktushose.jda.commands.dependency.DependencyInjector;
+import com.github.kaktushose.jda.commands.dispatching.ComponentIdCodec;
+import com.github.kaktushose.jda.commands.dispatching.RuntimeSupervisor;
+import com.github.kaktushose.jda.commands.dispatching.RuntimeSupervisor.InteractionRuntime;
+import com.github.kaktushose.jda.commands.dispatching.buttons.ButtonEvent;
+import com.github.kaktushose.jda.commands.dispatching.validation.ValidatorRegistry;
+import com.github.kaktushose.jda.commands.reflect.ClassIndex;
+import com.github.kaktushose.jda.commands.reflect.InteractionRegistry;
+import com.github.kaktushose.jda.commands.reflect.interactions.ButtonDefinition;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.dv8tion.jda.api.interactions.commands.localization.ResourceBundleLocalizationFunction;
+import net.dv8tion.jda.api.interactions.components.buttons.ButtonInteraction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RuntimePersistenceTest {
+
+    private static InteractionRegistry registry;
+    @TempDir
+    Path directory;
+    private RuntimeSupervisor supervisor;
+    private MappedRuntimeStore store;
+
+    @BeforeAll
+    public static void index() {
+        registry = new InteractionRegistry(
+                new ValidatorRegistry(),
+                new DependencyInjector(),
+                ResourceBundleLocalizationFunction.empty().build()
+        );
+        registry.index(ClassIndex.scan(RuntimePersistenceTest.class, "runtime"));
+    }
+
+    @BeforeEach
+    public void setup() throws IOException {
+        supervisor = new RuntimeSupervisor(new DependencyInjector(), registry);
+        store = new MappedRuntimeStore(directory.resolve("runtimes"));
+        supervisor.setRuntimeStore(store);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        supervisor.shutdown();
+    }
+
+    @Test
+    public void update_afterMutation_ShouldRehydrateLatestState() {
+        StatefulTestController instance = new StatefulTestController();
+        supervisor.register(new InteractionRuntime("1", instance));
+
+        instance.clicks = 3;
+        instance.names.add("name");
+        supervisor.update(getRuntime(1).orElseThrow());
+        supervisor.flush();
+        supervisor.evict(1);
+        StatefulTestController rehydrated = (StatefulTestController) getRuntime(1).orElseThrow().getInstance();
+
+        assertNotSame(instance, rehydrated);
+        assertEquals(3, rehydrated.clicks);
+        assertEquals("name", rehydrated.names.get(0));
+    }
+
+    @Test
+    public void update_withoutRegistration_ShouldNotPersist() {
+        supervisor.update(new InteractionRuntime("1", new StatefulTestController()));
+        supervisor.flush();
+
+        assertTrue(store.load("1").isEmpty());
+    }
+
+    @Test
+    public void register_withCyclicState_ShouldNotPersist() {
+        StatefulTestController instance = new StatefulTestController();
+        StatefulTestController other = new StatefulTestController();
+        instance.next = other;
+        other.next = instance;
+
+        supervisor.register(new InteractionRuntime("1", instance));
+        supervisor.flush();
+
+        assertTrue(store.load("1").isEmpty());
+        assertEquals(1, supervisor.size());
+    }
+
+    @Test
+    public void register_withSharedAcyclicState_ShouldPersist() {
+        StatefulTestController instance = new StatefulTestController();
+        StatefulTestController shared = new StatefulTestController();
+        instance.next = new Object[]{shared, shared};
+
+        supervisor.register(new InteractionRuntime("1", instance));
+        supervisor.flush();
+
+        assertTrue(store.load("1").isPresent());
+    }
+
+    @Test
+    public void register_withInjectedCycle_ShouldPersist() {
+        StatefulTestController instance = new StatefulTestController();
+        instance.injected = instance;
+
+        supervisor.register(new InteractionRuntime("1", instance));
+        supervisor.flush();
+
+        assertTrue(store.load("1").isPresent());
+    }
+
+    @Test
+    public void getRuntime_withSingletonScope_ShouldReuseSingleton() throws Exception {
+        ButtonDefinition definition = build(SingletonTestController.class);
+        InteractionRuntime runtime = supervisor.newRuntime(new SlashCommandInteractionEventMock(), definition);
+        supervisor.register(runtime);
+        supervisor.flush();
+
+        supervisor.evict(1);
+
+        assertSame(runtime.getInstance(), getRuntime(0).orElseThrow().getInstance());
+    }
+
+    @Test
+    public void getRuntime_withGuildScope_ShouldReuseGuildInstance() throws Exception {
+        ButtonDefinition definition = build(GuildTestController.class);
+        SlashCommandInteractionEventMock event = new SlashCommandInteractionEventMock() {
+            @Override
+            public Guild getGuild() {
+                return new GuildMock() {
+                    @Override
+                    public long getIdLong() {
+                        return 42;
+                    }
+                };
+            }
+        };
+        InteractionRuntime runtime = supervisor.newRuntime(event, definition);
+        supervisor.register(runtime);
+        supervisor.flush();
+
+        supervisor.evict(1);
+
+        assertSame(runtime.getInstance(), getRuntime(0).orElseThrow().getInstance());
+        assertSame(runtime.getInstance(), supervisor.newRuntime(event, definition).getInstance());
+    }
+
+    @Test
+    public void getRuntime_withPendingUpdate_ShouldRehydrateLatestState() {
+        StatefulTestController instance = new StatefulTestController();
+        supervisor.register(new InteractionRuntime("1", instance));
+        supervisor.flush();
+
+        instance.clicks = 5;
+        supervisor.update(getRuntime(1).orElseThrow());
+        supervisor.evict(1);
+
+        assertEquals(5, ((StatefulTestController) getRuntime(1).orElseThrow().getInstance()).clicks);
+    }
+
+    @Test
+    public void flush_withSingletonScope_ShouldPersistSharedStateOnce() throws Exception {
+        ButtonDefinition definition = build(SingletonTestController.class);
+        InteractionRuntime first = supervisor.newRuntime(new SlashCommandInteractionEventMock(), definition);
+        supervisor.register(first);
+        InteractionRuntime second = new InteractionRuntime("1", first.getInstance());
+        supervisor.register(second);
+
+        supervisor.flush();
+
+        String record = new String(store.load("1").orElseThrow().getState(), StandardCharsets.UTF_8);
+        assertEquals(SingletonTestController.class.getName() + "\n0\n", record);
+        assertTrue(store.load(SingletonTestController.class.getName()).isPresent());
+    }
+
+    @Test
+    public void getRuntime_withUnregisteredClass_ShouldNotLoadClass() {
+        byte[] state = ("runtime.UnregisteredTestState\n0\n{}").getBytes(StandardCharsets.UTF_8);
+        store.store("1", state, System.currentTimeMillis() + 60_000);
+
+        assertTrue(getRuntime(1).isEmpty());
+        assertNull(System.getProperty(UnregisteredTestState.PROPERTY));
+        assertTrue(store.load("1").isEmpty());
+    }
+
+    private Optional<InteractionRuntime> getRuntime(long runtimeId) {
+        String componentId = ComponentIdCodec.encode(0, runtimeId);
+        ButtonInteraction interaction = (ButtonInteraction) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{ButtonInteraction.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("getComponentId")) {
+                        return componentId;
+                    }
+                    Class<?> type = method.getReturnType();
+                    if (type == long.class || type == int.class) {
+                        return 0;
+                    }
+                    return type == boolean.class ? false : null;
+                }
+        );
+        return supervisor.getRuntime(new ButtonInteractionEvent(new JDAMock(), 0, interaction));
+    }
+
+    private ButtonDefinition build(Class<?> controller) throws NoSuchMethodException {
+        return ButtonDefinition.build(controller.getDeclaredMethod("click", ButtonEvent.class)).orElseThrow();
+    }
+}
@@ -0,0 +1,36 @@
+package runtime;
+
+import com.github.kaktushose.jda.commands.dependency.DependencyInjector;
+import com.github.kaktushose.jda.commands.dispatching.RuntimeSupervisor;
+import com.github.kaktushose.jda.commands.dispatching.RuntimeSupervisor.InteractionRuntime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RuntimeSupervisorTest {
+
+    private RuntimeSupervisor supervisor;
+
+    @BeforeEach
+    public void setup() {
+        supervisor = new RuntimeSupervisor(new DependencyInjector());
+    }
+
+    @AfterEach
+    public void cleanup() {
+        supervisor.shutdown();
+    }
+
+    @Test
+    public void register_calledTwice_ShouldStoreOnce() {
+        InteractionRuntime runtime = new InteractionRuntime("1", new Object());
+
+        supervisor.register(runtime);
+        supervisor.register(runtime);
+
+        assertTrue(runtime.isRegistered());
+        assertEquals(1, supervisor.size());
+    }
+}
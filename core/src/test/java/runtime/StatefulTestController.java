@@ -0,0 +1,24 @@
+package runtime;
+
+import com.github.kaktushose.jda.commands.annotations.Inject;
+import com.github.kaktushose.jda.commands.annotations.interactions.Button;
+import com.github.kaktushose.jda.commands.annotations.interactions.Interaction;
+import com.github.kaktushose.jda.commands.dispatching.buttons.ButtonEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Interaction
+public class StatefulTestController {
+
+    public int clicks;
+    public List<String> names = new ArrayList<>();
+    public Object next;
+    @Inject
+    public Object injected;
+
+    @Button("label")
+    public void click(ButtonEvent event) {
+        clicks++;
+    }
+}
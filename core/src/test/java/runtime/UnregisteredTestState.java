@@ -0,0 +1,10 @@
+package runtime;
+
+public class UnregisteredTestState {
+
+    public static final String PROPERTY = "runtime.unregistered.initialized";
+
+    static {
+        System.setProperty(PROPERTY, "true");
+    }
+}
@@ -0,0 +1,84 @@
+package scope;
+
+import com.github.kaktushose.jda.commands.scope.DefaultGuildScopeProvider;
+import com.github.kaktushose.jda.commands.scope.GuildScopeProvider;
+import net.dv8tion.jda.api.interactions.commands.build.CommandData;
+import net.dv8tion.jda.api.interactions.commands.build.Commands;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GuildScopeProviderTest {
+
+    private static final List<CommandData> COMMANDS = Arrays.asList(
+            Commands.slash("first", "description"),
+            Commands.slash("second", "description"),
+            Commands.slash("third", "description")
+    );
+
+    @Test
+    public void getCommandsForGuilds_withPerCommandScopes_ShouldMapCommandIndices() {
+        GuildScopeProvider provider = command -> {
+            switch (command.getName()) {
+                case "first":
+                    return new HashSet<>(Arrays.asList(1L, 2L));
+                case "third":
+                    return Collections.singleton(2L);
+                default:
+                    return Collections.emptySet();
+            }
+        };
+
+        Map<Long, BitSet> scopes = provider.getCommandsForGuilds(COMMANDS);
+
+        assertEquals(2, scopes.size());
+        assertEquals(BitSet.valueOf(new long[]{0b001}), scopes.get(1L));
+        assertEquals(BitSet.valueOf(new long[]{0b101}), scopes.get(2L));
+    }
+
+    @Test
+    public void getCommandsForGuilds_withGuildIds_ShouldOnlyReturnRequestedGuilds() {
+        GuildScopeProvider provider = command -> new HashSet<>(Arrays.asList(1L, 2L, 3L));
+
+        Map<Long, BitSet> scopes = provider.getCommandsForGuilds(COMMANDS, Arrays.asList(2L, 4L));
+
+        assertEquals(Collections.singleton(2L), scopes.keySet());
+        assertEquals(3, scopes.get(2L).cardinality());
+    }
+
+    @Test
+    public void getCommandsForGuilds_withDefaultProvider_ShouldReturnEmptyMap() {
+        assertTrue(new DefaultGuildScopeProvider().getCommandsForGuilds(COMMANDS).isEmpty());
+    }
+
+    @Test
+    public void getCommandsForGuilds_withGuildIds_ShouldNotResolveAllGuilds() {
+        GuildScopeProvider provider = new GuildScopeProvider() {
+            @Override
+            public Set<Long> getGuildsForCommand(CommandData commandData) {
+                return new HashSet<>(Arrays.asList(1L, 2L));
+            }
+
+            @Override
+            public Map<Long, BitSet> getCommandsForGuilds(List<CommandData> commands) {
+                throw new AssertionError("Resolved all guilds");
+            }
+        };
+
+        Map<Long, BitSet> scopes = provider.getCommandsForGuilds(COMMANDS, Collections.singleton(1L));
+
+        assertEquals(Collections.singleton(1L), scopes.keySet());
+    }
+
+    @Test
+    public void getCommandsForGuild_withPerCommandScopes_ShouldMapCommandIndices() {
+        GuildScopeProvider provider = command -> command.getName().equals("second")
+                ? Collections.singleton(1L)
+                : Collections.singleton(2L);
+
+        assertEquals(BitSet.valueOf(new long[]{0b010}), provider.getCommandsForGuild(COMMANDS, 1L));
+        assertTrue(provider.getCommandsForGuild(COMMANDS, 3L).isEmpty());
+    }
+}
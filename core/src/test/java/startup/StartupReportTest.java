@@ -0,0 +1,54 @@
+package startup;
+
+import com.github.kaktushose.jda.commands.StartupReport;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StartupReportTest {
+
+    @Test
+    public void measure_withSupplier_ShouldReturnResult() {
+        StartupReport report = new StartupReport();
+
+        assertEquals("result", report.measure("phase", () -> "result"));
+        assertTrue(report.getPhases().containsKey("phase"));
+    }
+
+    @Test
+    public void measure_withMultiplePhases_ShouldKeepOrder() {
+        StartupReport report = new StartupReport();
+
+        report.measure("first", () -> {
+        });
+        report.measure("second", () -> {
+        });
+
+        assertEquals(Arrays.asList("first", "second"), new ArrayList<>(report.getPhases().keySet()));
+        assertEquals(report.getPhases().values().stream().reduce(Duration.ZERO, Duration::plus), report.getTotal());
+    }
+
+    @Test
+    public void measure_withThrowingAction_ShouldStillRecordPhase() {
+        StartupReport report = new StartupReport();
+
+        assertThrows(IllegalStateException.class, () -> report.measure("failing", () -> {
+            throw new IllegalStateException();
+        }));
+        assertTrue(report.getPhases().containsKey("failing"));
+    }
+
+    @Test
+    public void record_withExistingPhase_ShouldAddUpDurations() {
+        StartupReport report = new StartupReport();
+
+        report.record("registration", Duration.ofMillis(5));
+        report.record("registration", Duration.ofMillis(10));
+
+        assertEquals(Duration.ofMillis(15), report.getPhases().get("registration"));
+    }
+}
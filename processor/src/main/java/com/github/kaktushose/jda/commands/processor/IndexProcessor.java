@@ -0,0 +1,168 @@
+package com.github.kaktushose.jda.commands.processor;
+
+import com.github.kaktushose.jda.commands.annotations.Component;
+import com.github.kaktushose.jda.commands.annotations.Produces;
+import com.github.kaktushose.jda.commands.annotations.interactions.Interaction;
+import com.github.kaktushose.jda.commands.reflect.BuildTimeIndex;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.util.*;
+
+/**
+ * Annotation processor writing the {@link BuildTimeIndex}. Lists all classes annotated with {@link Interaction} or
+ * {@link Component} and all methods annotated with {@link Produces} of the current compilation, thus jda-commands
+ * doesn't need to scan the classpath at startup. Like the classpath scanning it replaces, subclasses of annotated
+ * classes are listed as well.
+ *
+ * <p>Incremental builds only recompile some classes, thus the entries of an existing index get merged with the
+ * entries of the current compilation. Entries of recompiled classes get replaced and entries of classes that no
+ * longer exist get dropped.
+ *
+ * @author Kaktushose
+ * @version 4.0.0
+ * @see BuildTimeIndex
+ * @since 4.0.0
+ */
+public class IndexProcessor extends AbstractProcessor {
+
+    private final Set<String> compiled = new HashSet<>();
+    private final Set<String> interactions = new TreeSet<>();
+    private final Set<String> components = new TreeSet<>();
+    private final Set<String> producers = new TreeSet<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        // subclasses of annotated classes don't carry the annotation themselves, thus inspect every compilation
+        return Collections.singleton("*");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            boolean existing = merge(BuildTimeIndex.INTERACTIONS, interactions);
+            existing |= merge(BuildTimeIndex.COMPONENTS, components);
+            existing |= merge(BuildTimeIndex.PRODUCERS, producers);
+            // don't claim the output directory as indexed if there is nothing to index
+            if (existing || !interactions.isEmpty() || !components.isEmpty() || !producers.isEmpty()) {
+                write(BuildTimeIndex.INTERACTIONS, interactions);
+                write(BuildTimeIndex.COMPONENTS, components);
+                write(BuildTimeIndex.PRODUCERS, producers);
+            }
+            return false;
+        }
+        for (Element element : roundEnv.getRootElements()) {
+            collect(element);
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(Produces.class)) {
+            if (element.getKind() == ElementKind.METHOD) {
+                producers.add(binaryName(element.getEnclosingElement()) + "#" + element.getSimpleName());
+            }
+        }
+        return false;
+    }
+
+    private void collect(Element element) {
+        if (!(element instanceof TypeElement)) {
+            return;
+        }
+        TypeElement type = (TypeElement) element;
+        String name = binaryName(type);
+        compiled.add(name);
+        if (type.getKind() == ElementKind.CLASS) {
+            if (isAnnotated(type, Interaction.class)) {
+                interactions.add(name);
+            }
+            if (isAnnotated(type, Component.class)) {
+                components.add(name);
+            }
+        }
+        for (Element enclosed : type.getEnclosedElements()) {
+            collect(enclosed);
+        }
+    }
+
+    private boolean isAnnotated(TypeElement type, Class<? extends Annotation> annotation) {
+        if (type.getAnnotation(annotation) != null) {
+            return true;
+        }
+        for (TypeMirror supertype : processingEnv.getTypeUtils().directSupertypes(type.asType())) {
+            Element element = processingEnv.getTypeUtils().asElement(supertype);
+            if (element instanceof TypeElement && isAnnotated((TypeElement) element, annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String binaryName(Element element) {
+        return processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString();
+    }
+
+    private void write(String name, Set<String> entries) {
+        try {
+            FileObject file = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", BuildTimeIndex.LOCATION + name);
+            try (Writer writer = file.openWriter()) {
+                for (String entry : entries) {
+                    writer.write(entry);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    String.format("Unable to write build time index %s: %s", name, e.getMessage()));
+        }
+    }
+
+    // adds the entries of the existing index that belong to classes which weren't compiled but still exist, returns
+    // whether an index existed
+    private boolean merge(String name, Set<String> entries) {
+        List<String> lines = new ArrayList<>();
+        try {
+            FileObject file = processingEnv.getFiler()
+                    .getResource(StandardLocation.CLASS_OUTPUT, "", BuildTimeIndex.LOCATION + name);
+            try (Reader reader = file.openReader(true); BufferedReader buffered = new BufferedReader(reader)) {
+                String line;
+                while ((line = buffered.readLine()) != null) {
+                    lines.add(line.trim());
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            return false;
+        }
+        for (String line : lines) {
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            int separator = line.indexOf('#');
+            String className = separator < 0 ? line : line.substring(0, separator);
+            if (compiled.contains(className)) {
+                continue;
+            }
+            TypeElement type = processingEnv.getElementUtils().getTypeElement(className.replace('$', '.'));
+            if (type != null && binaryName(type).equals(className)) {
+                entries.add(line);
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,183 @@
+package com.github.kaktushose.jda.commands.processor;
+
+import com.github.kaktushose.jda.commands.annotations.interactions.Button;
+import com.github.kaktushose.jda.commands.annotations.interactions.Interaction;
+import com.github.kaktushose.jda.commands.annotations.interactions.SlashCommand;
+import com.github.kaktushose.jda.commands.reflect.interactions.GeneratedInvoker;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Annotation processor generating a {@link GeneratedInvoker} for every class annotated with {@link Interaction}.
+ * The generated invoker creates instances and invokes the {@link SlashCommand} and {@link Button} methods through
+ * direct calls, thus the runtime doesn't need to use reflection for it. Only construction and invocation are
+ * generated: discovering interaction classes at startup, injecting dependencies and adapting arguments still happen at
+ * runtime, see {@link com.github.kaktushose.jda.commands.reflect.ClassIndex ClassIndex} and
+ * {@link com.github.kaktushose.jda.commands.dependency.DependencyInjector DependencyInjector}.
+ *
+ * <p>Classes that cannot be instantiated from their package, i.e. private, abstract or inner classes or classes
+ * without a non-private no-arg constructor, are skipped. The same applies to private and overloaded methods. Skipped
+ * classes and methods will still work, but are invoked by reflection.
+ *
+ * @author Kaktushose
+ * @version 4.0.0
+ * @see GeneratedInvoker
+ * @since 4.0.0
+ */
+public class InteractionProcessor extends AbstractProcessor {
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(Interaction.class.getCanonicalName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(Interaction.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                continue;
+            }
+            TypeElement type = (TypeElement) element;
+            if (!isInstantiable(type)) {
+                warn(type, "Cannot instantiate %s from its package, it will be invoked by reflection", type);
+                continue;
+            }
+            try {
+                generate(type);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        String.format("Unable to generate invoker of %s: %s", type, e.getMessage()), type);
+            }
+        }
+        return false;
+    }
+
+    private boolean isInstantiable(TypeElement type) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        for (Element current = type; current instanceof TypeElement; current = current.getEnclosingElement()) {
+            if (current.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (current.getEnclosingElement() instanceof TypeElement && !current.getModifiers().contains(Modifier.STATIC)) {
+                return false;
+            }
+        }
+        return ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .anyMatch(constructor -> constructor.getParameters().isEmpty() &&
+                        !constructor.getModifiers().contains(Modifier.PRIVATE));
+    }
+
+    private List<ExecutableElement> getMethods(TypeElement type) {
+        Map<String, Integer> names = new HashMap<>();
+        List<ExecutableElement> methods = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            names.merge(method.getSimpleName().toString(), 1, Integer::sum);
+            if (method.getAnnotation(SlashCommand.class) == null && method.getAnnotation(Button.class) == null) {
+                continue;
+            }
+            if (method.getModifiers().contains(Modifier.PRIVATE) || method.getModifiers().contains(Modifier.STATIC)) {
+                warn(method, "Cannot invoke %s directly, it will be invoked by reflection", method);
+                continue;
+            }
+            methods.add(method);
+        }
+        methods.removeIf(method -> {
+            if (names.get(method.getSimpleName().toString()) > 1) {
+                warn(method, "%s is overloaded, it will be invoked by reflection", method);
+                return true;
+            }
+            return false;
+        });
+        return methods;
+    }
+
+    private void generate(TypeElement type) throws IOException {
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String binaryName = GeneratedInvoker.nameOf(processingEnv.getElementUtils().getBinaryName(type).toString());
+        String simpleName = binaryName.substring(binaryName.lastIndexOf('.') + 1);
+        String typeName = erasure(type.asType());
+        List<ExecutableElement> methods = getMethods(type);
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n * Generated by jda-commands for {@link ").append(typeName).append("}. Do not edit.\n */\n")
+                .append("public final class ").append(simpleName).append(" implements ")
+                .append(GeneratedInvoker.class.getCanonicalName()).append(" {\n\n")
+                .append("    @Override\n")
+                .append("    public Object newInstance() {\n")
+                .append("        return new ").append(typeName).append("();\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public int indexOf(String method) {\n")
+                .append("        switch (method) {\n");
+        for (int i = 0; i < methods.size(); i++) {
+            source.append("            case \"").append(methods.get(i).getSimpleName()).append("\":\n")
+                    .append("                return ").append(i).append(";\n");
+        }
+        source.append("            default:\n")
+                .append("                return -1;\n")
+                .append("        }\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("    public void invoke(int index, Object instance, Object[] args) throws Throwable {\n")
+                .append("        ").append(typeName).append(" target = (").append(typeName).append(") instance;\n")
+                .append("        switch (index) {\n");
+        for (int i = 0; i < methods.size(); i++) {
+            ExecutableElement method = methods.get(i);
+            source.append("            case ").append(i).append(":\n")
+                    .append("                target.").append(method.getSimpleName()).append("(");
+            List<? extends VariableElement> parameters = method.getParameters();
+            for (int j = 0; j < parameters.size(); j++) {
+                if (j > 0) {
+                    source.append(", ");
+                }
+                source.append("(").append(erasure(parameters.get(j).asType())).append(") args[").append(j).append("]");
+            }
+            source.append(");\n")
+                    .append("                return;\n");
+        }
+        source.append("            default:\n")
+                .append("                throw new IllegalArgumentException(\"Unknown method index: \" + index);\n")
+                .append("        }\n")
+                .append("    }\n")
+                .append("}\n");
+
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(binaryName, type);
+        try (Writer writer = file.openWriter()) {
+            writer.write(source.toString());
+        }
+    }
+
+    // primitives are boxed, because the arguments are passed as objects and get unboxed by the method call
+    private String erasure(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        }
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    private void warn(Element element, String message, Object... args) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, String.format(message, args), element);
+    }
+}
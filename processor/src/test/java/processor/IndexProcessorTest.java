@@ -0,0 +1,140 @@
+package processor;
+
+import com.github.kaktushose.jda.commands.processor.IndexProcessor;
+import com.github.kaktushose.jda.commands.reflect.BuildTimeIndex;
+import com.github.kaktushose.jda.commands.reflect.ClassIndex;
+import com.github.kaktushose.jda.commands.scope.GuildScopeProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IndexProcessorTest {
+
+    private static final String SOURCE = "package sample;\n" +
+            "import com.github.kaktushose.jda.commands.annotations.*;\n" +
+            "import com.github.kaktushose.jda.commands.annotations.interactions.Interaction;\n" +
+            "import com.github.kaktushose.jda.commands.scope.GuildScopeProvider;\n" +
+            "@Interaction\n" +
+            "public class IndexedController {\n" +
+            "    @Produces\n" +
+            "    public String produce() {\n" +
+            "        return \"value\";\n" +
+            "    }\n" +
+            "    @Component\n" +
+            "    public static class ScopeProvider implements GuildScopeProvider {\n" +
+            "        public java.util.Set<Long> getGuildsForCommand(net.dv8tion.jda.api.interactions.commands.build.CommandData data) {\n" +
+            "            return java.util.Collections.emptySet();\n" +
+            "        }\n" +
+            "    }\n" +
+            "}\n";
+
+    @TempDir
+    Path directory;
+    private ClassLoader loader;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        compile("sample.IndexedController", SOURCE);
+        loader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    // compiles into the same directory, like an incremental build of a single class would
+    private void compile(String name, String code) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        JavaFileObject source = new SimpleJavaFileObject(
+                URI.create("string:///" + name.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+        String classpath = System.getProperty("java.class.path") + File.pathSeparator + directory;
+        List<String> diagnostics = new ArrayList<>();
+        JavaCompiler.CompilationTask task = compiler.getTask(
+                null,
+                null,
+                diagnostic -> diagnostics.add(diagnostic.getMessage(null)),
+                Arrays.asList("-d", directory.toString(), "-classpath", classpath),
+                null,
+                Collections.singletonList(source)
+        );
+        task.setProcessors(Collections.singletonList(new IndexProcessor()));
+        assertTrue(task.call(), () -> String.join("\n", diagnostics));
+    }
+
+    @Test
+    public void process_withAnnotatedElements_ShouldWriteIndex() throws Exception {
+        Path location = directory.resolve(BuildTimeIndex.LOCATION);
+
+        assertEquals(Collections.singletonList("sample.IndexedController"),
+                Files.readAllLines(location.resolve(BuildTimeIndex.INTERACTIONS)));
+        assertEquals(Collections.singletonList("sample.IndexedController$ScopeProvider"),
+                Files.readAllLines(location.resolve(BuildTimeIndex.COMPONENTS)));
+        assertEquals(Collections.singletonList("sample.IndexedController#produce"),
+                Files.readAllLines(location.resolve(BuildTimeIndex.PRODUCERS)));
+    }
+
+    @Test
+    public void load_withIndex_ShouldResolveEntries() throws Exception {
+        Class<?> controller = loader.loadClass("sample.IndexedController");
+
+        ClassIndex index = BuildTimeIndex.load(controller, "sample").orElseThrow();
+
+        assertEquals(Collections.singleton(controller), index.getInteractions());
+        assertEquals(1, index.getComponents(GuildScopeProvider.class).size());
+        assertEquals("produce", index.getProducers().iterator().next().getName());
+    }
+
+    @Test
+    public void load_withExcludedPackage_ShouldReturnEmptyIndex() throws Exception {
+        Class<?> controller = loader.loadClass("sample.IndexedController");
+
+        ClassIndex index = BuildTimeIndex.load(controller, "other").orElseThrow();
+
+        assertTrue(index.getInteractions().isEmpty());
+        assertTrue(index.getProducers().isEmpty());
+    }
+
+    @Test
+    public void process_withIncrementalBuild_ShouldMergeIndex() throws Exception {
+        Path interactions = directory.resolve(BuildTimeIndex.LOCATION).resolve(BuildTimeIndex.INTERACTIONS);
+        Files.write(interactions, Arrays.asList("sample.IndexedController", "sample.RemovedController"));
+
+        compile("sample.OtherController", "package sample;\n" +
+                "@com.github.kaktushose.jda.commands.annotations.interactions.Interaction\n" +
+                "public class OtherController {\n" +
+                "}\n");
+
+        assertEquals(Arrays.asList("sample.IndexedController", "sample.OtherController"),
+                Files.readAllLines(interactions));
+        assertEquals(Collections.singletonList("sample.IndexedController#produce"),
+                Files.readAllLines(directory.resolve(BuildTimeIndex.LOCATION).resolve(BuildTimeIndex.PRODUCERS)));
+    }
+
+    @Test
+    public void process_withSubclassOfController_ShouldIndexSubclass() throws Exception {
+        compile("sample.SubController", "package sample;\n" +
+                "public class SubController extends IndexedController {\n" +
+                "}\n");
+
+        assertEquals(Arrays.asList("sample.IndexedController", "sample.SubController"),
+                Files.readAllLines(directory.resolve(BuildTimeIndex.LOCATION).resolve(BuildTimeIndex.INTERACTIONS)));
+    }
+}
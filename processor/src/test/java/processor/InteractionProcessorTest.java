@@ -0,0 +1,109 @@
+package processor;
+
+import com.github.kaktushose.jda.commands.processor.InteractionProcessor;
+import com.github.kaktushose.jda.commands.reflect.interactions.GeneratedInvoker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InteractionProcessorTest {
+
+    private static final String SOURCE = "package sample;\n" +
+            "import com.github.kaktushose.jda.commands.annotations.interactions.*;\n" +
+            "import com.github.kaktushose.jda.commands.dispatching.commands.CommandEvent;\n" +
+            "@Interaction\n" +
+            "public class SampleController {\n" +
+            "    public static Object[] lastArgs;\n" +
+            "    @SlashCommand(\"sample\")\n" +
+            "    public void sample(CommandEvent event, String text, int number, java.util.List<String> list) {\n" +
+            "        lastArgs = new Object[]{event, text, number, list};\n" +
+            "    }\n" +
+            "    @SlashCommand(\"hidden\")\n" +
+            "    private void hidden(CommandEvent event) {\n" +
+            "    }\n" +
+            "    @Interaction\n" +
+            "    public class Inner {\n" +
+            "    }\n" +
+            "}\n";
+
+    @TempDir
+    Path directory;
+    private ClassLoader loader;
+    private List<String> diagnostics;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        JavaFileObject source = new SimpleJavaFileObject(
+                URI.create("string:///sample/SampleController.java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return SOURCE;
+            }
+        };
+        diagnostics = new ArrayList<>();
+        JavaCompiler.CompilationTask task = compiler.getTask(
+                null,
+                null,
+                diagnostic -> diagnostics.add(diagnostic.getMessage(null)),
+                Arrays.asList("-d", directory.toString(), "-classpath", System.getProperty("java.class.path")),
+                null,
+                Collections.singletonList(source)
+        );
+        task.setProcessors(Collections.singletonList(new InteractionProcessor()));
+        assertTrue(task.call(), () -> String.join("\n", diagnostics));
+        loader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    @Test
+    public void process_withController_ShouldGenerateInvoker() throws Exception {
+        assertTrue(Files.exists(directory.resolve("sample/SampleController_Invoker.class")));
+        assertTrue(GeneratedInvoker.class.isAssignableFrom(loader.loadClass("sample.SampleController_Invoker")));
+    }
+
+    @Test
+    public void process_withInnerClass_ShouldSkipClass() {
+        assertFalse(Files.exists(directory.resolve("sample/SampleController_Inner_Invoker.class")));
+        assertTrue(diagnostics.stream().anyMatch(message -> message.contains("sample.SampleController.Inner")));
+    }
+
+    @Test
+    public void indexOf_withPrivateMethod_ShouldReturnMinusOne() throws Exception {
+        GeneratedInvoker invoker = newInvoker();
+
+        assertEquals(0, invoker.indexOf("sample"));
+        assertEquals(-1, invoker.indexOf("hidden"));
+    }
+
+    @Test
+    public void invoke_withArguments_ShouldCallMethod() throws Throwable {
+        GeneratedInvoker invoker = newInvoker();
+        Object instance = invoker.newInstance();
+        List<String> list = Collections.singletonList("value");
+
+        invoker.invoke(invoker.indexOf("sample"), instance, new Object[]{null, "text", 5, list});
+
+        Object[] lastArgs = (Object[]) instance.getClass().getField("lastArgs").get(null);
+        assertArrayEquals(new Object[]{null, "text", 5, list}, lastArgs);
+    }
+
+    private GeneratedInvoker newInvoker() throws Exception {
+        return (GeneratedInvoker) loader.loadClass("sample.SampleController_Invoker").getConstructor().newInstance();
+    }
+}
@@ -1,21 +0,0 @@
-package com.github.kaktushose.jda.commands.dispatching.buttons;
-
-import com.github.kaktushose.jda.commands.dispatching.GenericEvent;
-import com.github.kaktushose.jda.commands.dispatching.reply.Replyable;
-import com.github.kaktushose.jda.commands.reflect.interactions.ButtonDefinition;
-
-/**
- * This class is a subclass of {@link GenericEvent}.
- * It provides additional features for sending messages or editing the original message and also grants
- * access to the {@link ButtonDefinition} object which describes the button interaction that is executed.
- *
- * @author Kaktushose
- * @version 2.3.0
- * @see GenericEvent
- * @see Replyable
- * @since 1.0.0
- */
-public class ButtonEvent {
-
-
-}